@@ -21,12 +21,16 @@ import android.content.Intent;
 import android.net.Uri;
 import android.os.Handler;
 import android.os.Looper;
+import android.util.Log;
+import android.view.Choreographer;
 
 import com.facebook.react.bridge.ActivityEventListener;
+import com.facebook.react.bridge.JavaOnlyMap;
 import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.google.vr.sdk.audio.GvrAudioEngine;
 import com.magicleap.magicscript.ar.AnchorCreator;
@@ -38,10 +42,14 @@ import com.magicleap.magicscript.ar.clip.Clipper;
 import com.magicleap.magicscript.ar.clip.TextureClipper;
 import com.magicleap.magicscript.ar.clip.UiNodeClipper;
 import com.magicleap.magicscript.ar.clip.UiNodeColliderClipper;
+import com.magicleap.magicscript.ar.renderable.ColorMaterialCache;
 import com.magicleap.magicscript.ar.renderable.CubeRenderableBuilder;
 import com.magicleap.magicscript.ar.renderable.CubeRenderableBuilderImpl;
+import com.magicleap.magicscript.ar.renderable.LineRenderableBuilder;
+import com.magicleap.magicscript.ar.renderable.LineRenderableBuilderImpl;
 import com.magicleap.magicscript.ar.renderable.ModelRenderableLoader;
 import com.magicleap.magicscript.ar.renderable.ModelRenderableLoaderImpl;
+import com.magicleap.magicscript.ar.renderable.RenderableLoadScheduler;
 import com.magicleap.magicscript.ar.renderable.VideoRenderableLoader;
 import com.magicleap.magicscript.ar.renderable.VideoRenderableLoaderImpl;
 import com.magicleap.magicscript.ar.renderable.ViewRenderableLoader;
@@ -77,10 +85,11 @@ import com.magicleap.magicscript.scene.nodes.UiTabNode;
 import com.magicleap.magicscript.scene.nodes.UiTextEditNode;
 import com.magicleap.magicscript.scene.nodes.UiTextNode;
 import com.magicleap.magicscript.scene.nodes.UiTimePickerNode;
+import com.magicleap.magicscript.scene.nodes.audio.AudioEngine;
 import com.magicleap.magicscript.scene.nodes.audio.AudioNode;
 import com.magicleap.magicscript.scene.nodes.audio.ExternalAudioEngine;
 import com.magicleap.magicscript.scene.nodes.audio.GvrAudioEngineWrapper;
-import com.magicleap.magicscript.scene.nodes.audio.VrAudioEngine;
+import com.magicleap.magicscript.scene.nodes.audio.SharedAudioEngine;
 import com.magicleap.magicscript.scene.nodes.base.ReactNode;
 import com.magicleap.magicscript.scene.nodes.button.UiButtonNode;
 import com.magicleap.magicscript.scene.nodes.dialog.DialogNode;
@@ -118,9 +127,11 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A React module that is responsible for "parsing" JS tags in order to generate AR Nodes
@@ -133,6 +144,97 @@ import java.util.concurrent.Executors;
 public class ARComponentManager extends ReactContextBaseJavaModule implements LifecycleEventListener, ActivityEventListener {
 
     private static final String COMPONENT_NAME = "ARComponentManager";
+    private static final String LOG_TAG = "AR_LOG";
+
+    // Mutation keys (see applyMutations)
+    private static final String MUTATION_OP = "op";
+    private static final String MUTATION_ID = "id";
+    private static final String MUTATION_TYPE = "type";
+    private static final String MUTATION_PARENT_ID = "parentId";
+    private static final String MUTATION_PROPS = "props";
+    private static final String MUTATION_EVENT = "event";
+
+    private static final String OP_CREATE = "create";
+    private static final String OP_ADD = "add";
+    private static final String OP_REMOVE = "remove";
+    private static final String OP_UPDATE = "update";
+    private static final String OP_SUBSCRIBE = "subscribe";
+
+    // Element names as defined in components/platform/component-mapping.js
+    private static final String ELEMENT_SCENE = "scene";
+    private static final String ELEMENT_PRISM = "prism";
+    private static final String ELEMENT_AUDIO = "audio";
+    private static final String ELEMENT_BUTTON = "button";
+    private static final String ELEMENT_CONTENT = "content";
+    private static final String ELEMENT_COLOR_PICKER = "colorPicker";
+    private static final String ELEMENT_DATE_PICKER = "datePicker";
+    private static final String ELEMENT_DIALOG = "dialog";
+    private static final String ELEMENT_CIRCLE_CONFIRMATION = "circleConfirmation";
+    private static final String ELEMENT_DROPDOWN_LIST = "dropdownList";
+    private static final String ELEMENT_DROPDOWN_LIST_ITEM = "dropdownListItem";
+    private static final String ELEMENT_FILE_PICKER = "filePicker";
+    private static final String ELEMENT_IMAGE = "image";
+    private static final String ELEMENT_LIST_VIEW = "listView";
+    private static final String ELEMENT_LIST_VIEW_ITEM = "listViewItem";
+    private static final String ELEMENT_PAGE_VIEW = "pageView";
+    private static final String ELEMENT_PANEL = "panel";
+    private static final String ELEMENT_PROGRESS_BAR = "progressBar";
+    private static final String ELEMENT_SCROLL_BAR = "scrollBar";
+    private static final String ELEMENT_SCROLL_VIEW = "scrollView";
+    private static final String ELEMENT_SLIDER = "slider";
+    private static final String ELEMENT_SPINNER = "spinner";
+    private static final String ELEMENT_TAB = "tab";
+    private static final String ELEMENT_TEXT = "text";
+    private static final String ELEMENT_TEXT_EDIT = "textEdit";
+    private static final String ELEMENT_TIME_PICKER = "timePicker";
+    private static final String ELEMENT_TOGGLE = "toggle";
+    private static final String ELEMENT_TOGGLE_GROUP = "toggleGroup";
+    private static final String ELEMENT_VIEW = "view";
+    private static final String ELEMENT_WEB_VIEW = "webView";
+    private static final String ELEMENT_GRID_LAYOUT = "gridLayout";
+    private static final String ELEMENT_LINEAR_LAYOUT = "linearLayout";
+    private static final String ELEMENT_RECT_LAYOUT = "rectLayout";
+    private static final String ELEMENT_LINE = "line";
+    private static final String ELEMENT_MODEL = "model";
+    private static final String ELEMENT_VIDEO = "video";
+
+    // Event names as defined in components/platform/platform-events.js
+    private static final String EVENT_APP_START = "onAppStart";
+    private static final String EVENT_ACTIVATE = "onActivate";
+    private static final String EVENT_CLICK = "onClick";
+    private static final String EVENT_PRESS = "onPress";
+    private static final String EVENT_LONG_PRESS = "onLongPress";
+    private static final String EVENT_RELEASE = "onRelease";
+    private static final String EVENT_FOCUS_GAINED = "onFocusGained";
+    private static final String EVENT_FOCUS_LOST = "onFocusLost";
+    private static final String EVENT_UPDATE = "onUpdate";
+    private static final String EVENT_DELETE = "onDelete";
+    private static final String EVENT_ENABLED = "onEnabled";
+    private static final String EVENT_DISABLED = "onDisabled";
+    private static final String EVENT_TEXT_CHANGED = "onTextChanged";
+    private static final String EVENT_TOGGLE_CHANGED = "onToggleChanged";
+    private static final String EVENT_VIDEO_PREPARED = "onVideoPrepared";
+    private static final String EVENT_SLIDER_CHANGED = "onSliderChanged";
+    private static final String EVENT_SELECTION_CHANGED = "onSelectionChanged";
+    private static final String EVENT_COLOR_CONFIRMED = "onColorConfirmed";
+    private static final String EVENT_COLOR_CANCELED = "onColorCanceled";
+    private static final String EVENT_COLOR_CHANGED = "onColorChanged";
+    private static final String EVENT_DATE_CHANGED = "onDateChanged";
+    private static final String EVENT_DATE_CONFIRMED = "onDateConfirmed";
+    private static final String EVENT_SCROLL_CHANGED = "onScrollChanged";
+    private static final String EVENT_TIME_CHANGED = "onTimeChanged";
+    private static final String EVENT_TIME_CONFIRMED = "onTimeConfirmed";
+    private static final String EVENT_DIALOG_CONFIRMED = "onDialogConfirmed";
+    private static final String EVENT_DIALOG_CANCELED = "onDialogCanceled";
+    private static final String EVENT_DIALOG_TIME_EXPIRED = "onDialogTimeExpired";
+    private static final String EVENT_CONFIRMATION_COMPLETED = "onConfirmationCompleted";
+    private static final String EVENT_CONFIRMATION_UPDATED = "onConfirmationUpdated";
+    private static final String EVENT_CONFIRMATION_CANCELED = "onConfirmationCanceled";
+    private static final String EVENT_FILE_SELECTED = "onFileSelected";
+    private static final String EVENT_MODE_CHANGED = "onModeChanged";
+    private static final String EVENT_ROTATION_CHANGED = "onRotationChanged";
+    private static final String EVENT_SCALE_CHANGED = "onScaleChanged";
+    private static final String EVENT_POSITION_CHANGED = "onPositionChanged";
     // All code inside react method must be called from main thread
     private Handler mainHandler = new Handler(Looper.getMainLooper());
     private ReactApplicationContext context;
@@ -142,9 +244,13 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
     private AppInfoProvider appInfoProvider;
 
     // Renderable loaders
+    private RenderableLoadScheduler loadScheduler;
     private ViewRenderableLoader viewRenderableLoader;
     private ModelRenderableLoader modelRenderableLoader;
     private VideoRenderableLoader videoRenderableLoader;
+    private ColorMaterialCache colorMaterialCache;
+    private CubeRenderableBuilder cubeRenderableBuilder;
+    private LineRenderableBuilder lineRenderableBuilder;
 
     // Other resources providers
     private FontProvider fontProvider;
@@ -152,12 +258,22 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
     private DialogProvider dialogProvider;
 
     private MediaPlayerPool mediaPlayerPool;
+    // created with the first audio node
+    @Nullable
+    private SharedAudioEngine sharedAudioEngine;
     private List<ActivityResultObserver> activityResultObservers = new ArrayList<>();
     private List<LifecycleEventListener> lifecycleEventListeners = new ArrayList<>();
 
     private Clipper uiNodeClipper;
     private Clipper videoNodeClipper;
 
+    // applies the buffered node updates on the next frame
+    private final Choreographer.FrameCallback pendingUpdatesApplier = frameTimeNanos -> applyPendingUpdates();
+    private final AtomicBoolean pendingUpdatesScheduled = new AtomicBoolean(false);
+
+    private Map<String, NodeFactory> nodeFactories = new HashMap<>();
+    private Map<String, EventSubscriber> eventSubscribers = new HashMap<>();
+
     public ARComponentManager(ReactApplicationContext reactContext, NodesManager nodesManager, EventsManager eventsManager,
                               MediaPlayerPool mediaPlayerPool, ArResourcesProvider arResourcesProvider, AppInfoProvider appInfoProvider) {
         super(reactContext);
@@ -168,9 +284,13 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
         this.arResourcesProvider = arResourcesProvider;
         this.appInfoProvider = appInfoProvider;
 
-        this.viewRenderableLoader = new ViewRenderableLoaderImpl(context, arResourcesProvider);
-        this.modelRenderableLoader = new ModelRenderableLoaderImpl(context, arResourcesProvider);
-        this.videoRenderableLoader = new VideoRenderableLoaderImpl(context, arResourcesProvider);
+        this.loadScheduler = new RenderableLoadScheduler(arResourcesProvider);
+        this.viewRenderableLoader = new ViewRenderableLoaderImpl(context, arResourcesProvider, loadScheduler);
+        this.modelRenderableLoader = new ModelRenderableLoaderImpl(context, loadScheduler);
+        this.videoRenderableLoader = new VideoRenderableLoaderImpl(context, loadScheduler);
+        this.colorMaterialCache = new ColorMaterialCache(context, arResourcesProvider);
+        this.cubeRenderableBuilder = new CubeRenderableBuilderImpl(colorMaterialCache, loadScheduler);
+        this.lineRenderableBuilder = new LineRenderableBuilderImpl(colorMaterialCache, loadScheduler);
 
         AndroidFontProvider androidFontProvider = new AndroidFontProvider();
         this.fontProvider = new FontProviderImpl(context, androidFontProvider);
@@ -186,6 +306,9 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
         this.uiNodeClipper = new UiNodeClipper(textureClipper, uiColliderClipper);
         this.videoNodeClipper = new TextureClipper();
 
+        registerNodeFactories();
+        registerEventSubscribers();
+
         context.addLifecycleEventListener(this);
         context.addActivityEventListener(this);
     }
@@ -201,32 +324,16 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
         return Collections.emptyMap();
     }
 
+    // region Nodes
+
     @ReactMethod
     public void createScene(final ReadableMap props, final String nodeId) {
-        ReactScene scene = new ReactScene(props, arResourcesProvider);
-
-        Uri deepLink = readDeepLink();
-        if (deepLink != null) {
-            scene.setDeepLink(deepLink.toString());
-        }
-
-        mainHandler.post(() -> addNode(scene, nodeId));
+        postCreateNode(ELEMENT_SCENE, props, nodeId);
     }
 
     @ReactMethod
     public void createPrism(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            CubeRenderableBuilder cubeRenderableBuilder = new CubeRenderableBuilderImpl(context, arResourcesProvider);
-            AnchorCreator anchorCreator = new SimpleAnchorCreator(arResourcesProvider);
-            Prism prism = new Prism(props,
-                                    context,
-                                    modelRenderableLoader,
-                                    cubeRenderableBuilder,
-                                    anchorCreator,
-                                    arResourcesProvider,
-                                    appInfoProvider);
-            addNode(prism, nodeId);
-        });
+        postCreateNode(ELEMENT_PRISM, props, nodeId);
     }
 
     /**
@@ -237,7 +344,7 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
      */
     @ReactMethod
     public void createGroupNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new GroupNode(props), nodeId));
+        postCreateNode(ELEMENT_VIEW, props, nodeId);
     }
 
     /**
@@ -248,253 +355,171 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
      */
     @ReactMethod
     public void createButtonNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UiButtonNode node = new UiButtonNode(props, context, viewRenderableLoader, uiNodeClipper, fontProvider, iconsRepo);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_BUTTON, props, nodeId);
     }
 
     @ReactMethod
     public void createImageNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UiImageNode node = new UiImageNode(props, context, viewRenderableLoader, uiNodeClipper, iconsRepo);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_IMAGE, props, nodeId);
     }
 
     @ReactMethod
     public void createTextNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UiTextNode node = new UiTextNode(props, context, viewRenderableLoader, uiNodeClipper, fontProvider);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_TEXT, props, nodeId);
     }
 
     @ReactMethod
     public void createTextEditNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UiTextEditNode node = new UiTextEditNode(props, context, viewRenderableLoader, uiNodeClipper, fontProvider);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_TEXT_EDIT, props, nodeId);
     }
 
     @ReactMethod
     public void createModelNode(final ReadableMap props, final String nodeId) {
-        RenderableAnimator animator = new LoopedAnimator();
-        mainHandler.post(() -> addNode(new ModelNode(props, context, modelRenderableLoader, animator), nodeId));
+        postCreateNode(ELEMENT_MODEL, props, nodeId);
     }
 
     @ReactMethod
     public void createVideoNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            FileProvider fileProvider = new UriFileProvider(context);
-            VideoPlayer videoPlayer = new VideoPlayerImpl(context, fileProvider);
-            addNode(new VideoNode(props,
-                                  context,
-                                  videoPlayer,
-                                  videoRenderableLoader,
-                                  viewRenderableLoader,
-                                  videoNodeClipper,
-                                  fontProvider,
-                                  arResourcesProvider), nodeId);
-        });
+        postCreateNode(ELEMENT_VIDEO, props, nodeId);
     }
 
     @ReactMethod
     public void createScrollBarNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new UiScrollBarNode(props), nodeId));
+        postCreateNode(ELEMENT_SCROLL_BAR, props, nodeId);
     }
 
     @ReactMethod
     public void createScrollViewNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new UiScrollViewNode(props, context, viewRenderableLoader, uiNodeClipper), nodeId));
+        postCreateNode(ELEMENT_SCROLL_VIEW, props, nodeId);
     }
 
     @ReactMethod
     public void createSliderNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new UiSliderNode(props, context, viewRenderableLoader, uiNodeClipper), nodeId));
+        postCreateNode(ELEMENT_SLIDER, props, nodeId);
     }
 
     @ReactMethod
     public void createSpinnerNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new UiSpinnerNode(props, context, viewRenderableLoader, uiNodeClipper), nodeId));
+        postCreateNode(ELEMENT_SPINNER, props, nodeId);
     }
 
     @ReactMethod
     public void createCircleConfirmationNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new UiCircleConfirmationNode(props, context, viewRenderableLoader, uiNodeClipper), nodeId));
+        postCreateNode(ELEMENT_CIRCLE_CONFIRMATION, props, nodeId);
     }
 
     @ReactMethod
     public void createToggleNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            ToggleViewManager manager = new LinearToggleViewManager(fontProvider, new ToggleIconsProviderImpl());
-            UiToggleNode node = new UiToggleNode(props, context, viewRenderableLoader, uiNodeClipper, manager);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_TOGGLE, props, nodeId);
     }
 
     @ReactMethod
     public void createToggleGroupNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new ToggleGroupNode(props), nodeId));
+        postCreateNode(ELEMENT_TOGGLE_GROUP, props, nodeId);
     }
 
     @ReactMethod
     public void createProgressBarNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new UiProgressBarNode(props, context, viewRenderableLoader, uiNodeClipper), nodeId));
+        postCreateNode(ELEMENT_PROGRESS_BAR, props, nodeId);
     }
 
     @ReactMethod
     public void createLineNode(final ReadableMap props, final String nodeId) {
-        CubeRenderableBuilder cubeRenderableBuilder = new CubeRenderableBuilderImpl(context, arResourcesProvider);
-        mainHandler.post(() -> addNode(new LineNode(props, cubeRenderableBuilder), nodeId));
+        postCreateNode(ELEMENT_LINE, props, nodeId);
     }
 
     @ReactMethod
     public void createGridLayoutNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            GridLayoutManager layoutManager = new GridLayoutManager();
-            addNode(new UiGridLayout(props, layoutManager), nodeId);
-        });
+        postCreateNode(ELEMENT_GRID_LAYOUT, props, nodeId);
     }
 
     @ReactMethod
     public void createLinearLayoutNode(final ReadableMap props, final String nodeId) {
-        VerticalLinearLayoutManager verticalManager = new VerticalLinearLayoutManager<LayoutParams>();
-        HorizontalLinearLayoutManager horizontalManager = new HorizontalLinearLayoutManager<LayoutParams>();
-        LinearLayoutManager manager = new LinearLayoutManager(verticalManager, horizontalManager);
-        mainHandler.post(() -> addNode(new UiLinearLayout(props, manager), nodeId));
+        postCreateNode(ELEMENT_LINEAR_LAYOUT, props, nodeId);
     }
 
     @ReactMethod
     public void createDropdownListNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UiDropdownListNode node = new UiDropdownListNode(props, context, viewRenderableLoader, uiNodeClipper, fontProvider, iconsRepo);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_DROPDOWN_LIST, props, nodeId);
     }
 
     @ReactMethod
     public void createDropdownListItemNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UiDropdownListItemNode node = new UiDropdownListItemNode(props, fontProvider);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_DROPDOWN_LIST_ITEM, props, nodeId);
     }
 
     @ReactMethod
     public void createColorPickerNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UiColorPickerNode node = new UiColorPickerNode(props,
-                                                           context,
-                                                           viewRenderableLoader,
-                                                           uiNodeClipper,
-                                                           fontProvider,
-                                                           iconsRepo,
-                                                           dialogProvider);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_COLOR_PICKER, props, nodeId);
     }
 
     @ReactMethod
     public void createWebViewNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UIWebViewNode node = new UIWebViewNode(props, context, viewRenderableLoader, uiNodeClipper);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_WEB_VIEW, props, nodeId);
     }
 
     @ReactMethod
     public void createRectLayoutNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            VerticalLinearLayoutManager<LayoutParams> layoutManager = new VerticalLinearLayoutManager<>();
-            addNode(new UiRectLayout(props, layoutManager), nodeId);
-        });
+        postCreateNode(ELEMENT_RECT_LAYOUT, props, nodeId);
     }
 
     @ReactMethod
     public void createListViewItemNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new UiListViewItemNode(props, context, viewRenderableLoader, uiNodeClipper), nodeId));
+        postCreateNode(ELEMENT_LIST_VIEW_ITEM, props, nodeId);
     }
 
     @ReactMethod
     public void createListViewNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new UiListViewNode(props, context, viewRenderableLoader, uiNodeClipper), nodeId));
+        postCreateNode(ELEMENT_LIST_VIEW, props, nodeId);
     }
 
     @ReactMethod
     public void createDatePickerNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UiDatePickerNode datePickerNode = new UiDatePickerNode(props, context, viewRenderableLoader, uiNodeClipper, dialogProvider);
-            addNode(datePickerNode, nodeId);
-        });
+        postCreateNode(ELEMENT_DATE_PICKER, props, nodeId);
     }
 
     @ReactMethod
     public void createTimePickerNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UiTimePickerNode datePickerNode = new UiTimePickerNode(props, context, viewRenderableLoader, uiNodeClipper, dialogProvider);
-            addNode(datePickerNode, nodeId);
-        });
+        postCreateNode(ELEMENT_TIME_PICKER, props, nodeId);
     }
 
     @ReactMethod
     public void createDialogNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            DialogNode node = new DialogNode(props, context, iconsRepo, dialogProvider);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_DIALOG, props, nodeId);
     }
 
     @ReactMethod
     public void createTabNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            UiTabNode node = new UiTabNode(props, context, viewRenderableLoader, uiNodeClipper, fontProvider, iconsRepo);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_TAB, props, nodeId);
     }
 
     @ReactMethod
     public void createPanelNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new PanelNode(props), nodeId));
+        postCreateNode(ELEMENT_PANEL, props, nodeId);
     }
 
     @ReactMethod
     public void createContentNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new ContentNode(props), nodeId));
+        postCreateNode(ELEMENT_CONTENT, props, nodeId);
     }
 
     @ReactMethod
     public void createPageViewNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> addNode(new PageViewNode(props, new PageViewLayoutManager()), nodeId));
+        postCreateNode(ELEMENT_PAGE_VIEW, props, nodeId);
     }
 
     @ReactMethod
     public void createAudioNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            GvrAudioEngine gvrAudioEngine = new GvrAudioEngine(context, GvrAudioEngine.RenderingMode.BINAURAL_HIGH_QUALITY);
-            ExternalAudioEngine externalAudioEngine = new GvrAudioEngineWrapper(gvrAudioEngine);
-            VrAudioEngine audioEngine = new VrAudioEngine(Executors.newSingleThreadExecutor(), externalAudioEngine);
-            FileProvider fileProvider = new UriFileProvider(context);
-            AudioNode node = new AudioNode(props, context, audioEngine, fileProvider);
-            addNode(node, nodeId);
-        });
+        postCreateNode(ELEMENT_AUDIO, props, nodeId);
     }
 
     @ReactMethod
     public void createFilePickerNode(final ReadableMap props, final String nodeId) {
-        mainHandler.post(() -> {
-            NativeFilePickerNode filePicker = new NativeFilePickerNode(props,
-                                                                       context,
-                                                                       viewRenderableLoader,
-                                                                       uiNodeClipper,
-                                                                       fontProvider,
-                                                                       iconsRepo);
-            activityResultObservers.add(filePicker);
-            addNode(filePicker, nodeId);
-        });
+        postCreateNode(ELEMENT_FILE_PICKER, props, nodeId);
     }
 
+    // endregion
+
     @ReactMethod
     public void addChildNode(final String nodeId, final String parentId) {
         mainHandler.post(() -> nodesManager.addNodeToParent(nodeId, parentId));
@@ -517,7 +542,9 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
 
     @ReactMethod
     public void updateNode(final String nodeId, final ReadableMap properties) {
-        mainHandler.post(() -> nodesManager.updateNode(nodeId, properties));
+        // buffered and applied once per frame, see pendingUpdatesApplier
+        nodesManager.enqueueUpdate(nodeId, properties);
+        schedulePendingUpdates();
     }
 
     @ReactMethod
@@ -525,184 +552,220 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
         mainHandler.post(() -> nodesManager.clear());
     }
 
+    /**
+     * Applies an ordered list of scene mutations in a single main thread pass,
+     * so mounting a scene costs one bridge call instead of one call per node, child
+     * and event handler.
+     * <p>
+     * Each mutation is a map with the "op" key and the operation arguments:
+     * <ul>
+     * <li>{ op: "create", type: "button", id, props }</li>
+     * <li>{ op: "add", id, parentId } - adds to root when parentId is absent</li>
+     * <li>{ op: "remove", id }</li>
+     * <li>{ op: "update", id, props } - applied on the next frame, like {@link #updateNode}</li>
+     * <li>{ op: "subscribe", id, event: "onActivate" }</li>
+     * </ul>
+     * Mutations are decoded on the calling (native modules) thread.
+     *
+     * @param mutations list of mutations to apply in order
+     */
+    @ReactMethod
+    public void applyMutations(final ReadableArray mutations) {
+        final List<Runnable> operations = new ArrayList<>(mutations.size());
+        for (int i = 0; i < mutations.size(); i++) {
+            Runnable operation = decodeMutation(mutations.getMap(i));
+            if (operation != null) {
+                operations.add(operation);
+            }
+        }
+
+        if (!operations.isEmpty()) {
+            mainHandler.post(() -> {
+                for (Runnable operation : operations) {
+                    operation.run();
+                }
+            });
+        }
+    }
+
     // region Events
 
     @ReactMethod
     public void addOnAppStartEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnAppStartEventHandler(nodeId));
+        postSubscribe(EVENT_APP_START, nodeId);
     }
 
     // activate = click
     @ReactMethod
     public void addOnActivateEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnActivateEventHandler(nodeId));
+        postSubscribe(EVENT_ACTIVATE, nodeId);
     }
 
     // touch down
     @ReactMethod
     public void addOnPressEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnPressEventHandler(nodeId));
+        postSubscribe(EVENT_PRESS, nodeId);
     }
 
     @ReactMethod
     public void addOnLongPressEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnLongPressEventHandler(nodeId));
+        postSubscribe(EVENT_LONG_PRESS, nodeId);
     }
 
     // touch up
     @ReactMethod
     public void addOnReleaseEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnReleaseEventHandler(nodeId));
+        postSubscribe(EVENT_RELEASE, nodeId);
     }
 
     @ReactMethod
     public void addOnFocusGainedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnFocusGainedEventHandler(nodeId));
+        postSubscribe(EVENT_FOCUS_GAINED, nodeId);
     }
 
     @ReactMethod
     public void addOnFocusLostEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnFocusLostEventHandler(nodeId));
+        postSubscribe(EVENT_FOCUS_LOST, nodeId);
     }
 
     @ReactMethod
     public void addOnUpdateEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnUpdateEventHandler(nodeId));
+        postSubscribe(EVENT_UPDATE, nodeId);
     }
 
     @ReactMethod
     public void addOnDeleteEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnDeleteEventHandler(nodeId));
+        postSubscribe(EVENT_DELETE, nodeId);
     }
 
     @ReactMethod
     public void addOnEnabledEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnEnabledEventHandler(nodeId));
+        postSubscribe(EVENT_ENABLED, nodeId);
     }
 
     @ReactMethod
     public void addOnDisabledEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnDisabledEventHandler(nodeId));
+        postSubscribe(EVENT_DISABLED, nodeId);
     }
 
     @ReactMethod
     public void addOnTextChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnTextChangedEventHandler(nodeId));
+        postSubscribe(EVENT_TEXT_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnToggleChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnToggleChangedEventHandler(nodeId));
+        postSubscribe(EVENT_TOGGLE_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnVideoPreparedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnVideoPreparedEventHandler(nodeId));
+        postSubscribe(EVENT_VIDEO_PREPARED, nodeId);
     }
 
     @ReactMethod
     public void addOnSliderChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnSliderChangedEventHandler(nodeId));
+        postSubscribe(EVENT_SLIDER_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnSelectionChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnSelectionChangedEventHandler(nodeId));
+        postSubscribe(EVENT_SELECTION_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnColorConfirmedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnColorConfirmedEventHandler(nodeId));
+        postSubscribe(EVENT_COLOR_CONFIRMED, nodeId);
     }
 
     @ReactMethod
     public void addOnColorCanceledEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnColorCanceledEventHandler(nodeId));
+        postSubscribe(EVENT_COLOR_CANCELED, nodeId);
     }
 
     @ReactMethod
     public void addOnColorChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnColorChangedEventHandler(nodeId));
+        postSubscribe(EVENT_COLOR_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnDateChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnDateChangedEventHandler(nodeId));
+        postSubscribe(EVENT_DATE_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnDateConfirmedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnDateConfirmedEventHandler(nodeId));
+        postSubscribe(EVENT_DATE_CONFIRMED, nodeId);
     }
 
     @ReactMethod
     public void addOnScrollChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnScrollChangedEventHandler(nodeId));
+        postSubscribe(EVENT_SCROLL_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnTimeChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnTimeChangedEventHandler(nodeId));
+        postSubscribe(EVENT_TIME_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnTimeConfirmedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnTimeConfirmedEventHandler(nodeId));
+        postSubscribe(EVENT_TIME_CONFIRMED, nodeId);
     }
 
     @ReactMethod
     public void addOnDialogConfirmedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnDialogConfirmedEventHandler(nodeId));
+        postSubscribe(EVENT_DIALOG_CONFIRMED, nodeId);
     }
 
     @ReactMethod
     public void addOnDialogCanceledEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnDialogCanceledEventHandler(nodeId));
+        postSubscribe(EVENT_DIALOG_CANCELED, nodeId);
     }
 
     @ReactMethod
     public void addOnDialogTimeExpiredEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnDialogTimeExpiredEventHandler(nodeId));
+        postSubscribe(EVENT_DIALOG_TIME_EXPIRED, nodeId);
     }
 
     @ReactMethod
     public void addOnConfirmationCompletedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnConfirmationCompletedEventHandler(nodeId));
+        postSubscribe(EVENT_CONFIRMATION_COMPLETED, nodeId);
     }
 
     @ReactMethod
     public void addOnConfirmationUpdatedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnConfirmationUpdatedEventHandler(nodeId));
+        postSubscribe(EVENT_CONFIRMATION_UPDATED, nodeId);
     }
 
     @ReactMethod
     public void addOnConfirmationCanceledEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnConfirmationCanceledEventHandler(nodeId));
+        postSubscribe(EVENT_CONFIRMATION_CANCELED, nodeId);
     }
 
     @ReactMethod
     public void addOnFileSelectedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnFileSelectedEventHandler(nodeId));
+        postSubscribe(EVENT_FILE_SELECTED, nodeId);
     }
 
     @ReactMethod
     public void addOnPrismModeChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnModeChangedEventHandler(nodeId));
+        postSubscribe(EVENT_MODE_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnPrismRotationChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnRotationChangedEventHandler(nodeId));
+        postSubscribe(EVENT_ROTATION_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnPrismScaleChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnScaleChangedEventHandler(nodeId));
+        postSubscribe(EVENT_SCALE_CHANGED, nodeId);
     }
 
     @ReactMethod
     public void addOnPrismPositionChangedEventHandler(final String nodeId) {
-        mainHandler.post(() -> eventsManager.addOnPositionChangedNodeHandler(nodeId));
+        postSubscribe(EVENT_POSITION_CHANGED, nodeId);
     }
 
     // endregion
@@ -712,6 +775,227 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
         // unused on Android
     }
 
+    private void postCreateNode(String type, ReadableMap props, String nodeId) {
+        Runnable operation = createNodeOperation(type, props, nodeId);
+        if (operation != null) {
+            mainHandler.post(operation);
+        }
+    }
+
+    private void postSubscribe(String eventName, String nodeId) {
+        Runnable operation = subscribeOperation(eventName, nodeId);
+        if (operation != null) {
+            mainHandler.post(operation);
+        }
+    }
+
+    @Nullable
+    private Runnable createNodeOperation(String type, ReadableMap props, String nodeId) {
+        NodeFactory factory = nodeFactories.get(type);
+        if (factory == null) {
+            Log.w(LOG_TAG, "cannot create node: unknown type " + type);
+            return null;
+        }
+        return () -> addNode(factory.create(props), nodeId);
+    }
+
+    @Nullable
+    private Runnable subscribeOperation(String eventName, String nodeId) {
+        EventSubscriber subscriber = eventSubscribers.get(eventName);
+        if (subscriber == null) {
+            Log.w(LOG_TAG, "cannot subscribe: unknown event " + eventName);
+            return null;
+        }
+        return () -> subscriber.subscribe(nodeId);
+    }
+
+    @Nullable
+    private Runnable decodeMutation(@Nullable ReadableMap mutation) {
+        if (mutation == null || !mutation.hasKey(MUTATION_OP) || !mutation.hasKey(MUTATION_ID)) {
+            Log.w(LOG_TAG, "cannot apply mutation: missing op or id");
+            return null;
+        }
+
+        final String op = mutation.getString(MUTATION_OP);
+        final String nodeId = mutation.getString(MUTATION_ID);
+        if (op == null || nodeId == null) {
+            return null;
+        }
+
+        switch (op) {
+            case OP_CREATE:
+                return createNodeOperation(readString(mutation, MUTATION_TYPE), readProps(mutation), nodeId);
+            case OP_ADD:
+                final String parentId = readString(mutation, MUTATION_PARENT_ID);
+                if (parentId == null) {
+                    return () -> nodesManager.addNodeToRoot(nodeId);
+                }
+                return () -> nodesManager.addNodeToParent(nodeId, parentId);
+            case OP_REMOVE:
+                return () -> nodesManager.removeNode(nodeId);
+            case OP_UPDATE:
+                final ReadableMap props = readProps(mutation);
+                // coalesced with other updates of the node and applied on the next frame
+                return () -> {
+                    nodesManager.enqueueUpdate(nodeId, props);
+                    schedulePendingUpdates();
+                };
+            case OP_SUBSCRIBE:
+                return subscribeOperation(readString(mutation, MUTATION_EVENT), nodeId);
+            default:
+                Log.w(LOG_TAG, "cannot apply mutation: unknown op " + op);
+                return null;
+        }
+    }
+
+    @Nullable
+    private String readString(ReadableMap map, String key) {
+        return map.hasKey(key) && !map.isNull(key) ? map.getString(key) : null;
+    }
+
+    private ReadableMap readProps(ReadableMap mutation) {
+        if (mutation.hasKey(MUTATION_PROPS) && !mutation.isNull(MUTATION_PROPS)) {
+            return mutation.getMap(MUTATION_PROPS);
+        }
+        return new JavaOnlyMap();
+    }
+
+    private void registerNodeFactories() {
+        nodeFactories.put(ELEMENT_SCENE, props -> {
+            ReactScene scene = new ReactScene(props, arResourcesProvider);
+            Uri deepLink = readDeepLink();
+            if (deepLink != null) {
+                scene.setDeepLink(deepLink.toString());
+            }
+            return scene;
+        });
+        nodeFactories.put(ELEMENT_PRISM, props -> {
+            AnchorCreator anchorCreator = new SimpleAnchorCreator(arResourcesProvider);
+            return new Prism(props,
+                             context,
+                             viewRenderableLoader,
+                             modelRenderableLoader,
+                             cubeRenderableBuilder,
+                             anchorCreator,
+                             arResourcesProvider,
+                             appInfoProvider);
+        });
+        nodeFactories.put(ELEMENT_VIEW, GroupNode::new);
+        nodeFactories.put(ELEMENT_BUTTON, props -> new UiButtonNode(props, context, viewRenderableLoader, uiNodeClipper, fontProvider, iconsRepo));
+        nodeFactories.put(ELEMENT_IMAGE, props -> new UiImageNode(props, context, viewRenderableLoader, uiNodeClipper, iconsRepo));
+        nodeFactories.put(ELEMENT_TEXT, props -> new UiTextNode(props, context, viewRenderableLoader, uiNodeClipper, fontProvider));
+        nodeFactories.put(ELEMENT_TEXT_EDIT, props -> new UiTextEditNode(props, context, viewRenderableLoader, uiNodeClipper, fontProvider));
+        nodeFactories.put(ELEMENT_MODEL, props -> {
+            RenderableAnimator animator = new LoopedAnimator();
+            return new ModelNode(props, context, modelRenderableLoader, animator);
+        });
+        nodeFactories.put(ELEMENT_VIDEO, props -> {
+            FileProvider fileProvider = new UriFileProvider(context);
+            VideoPlayer videoPlayer = new VideoPlayerImpl(context, fileProvider, mediaPlayerPool);
+            return new VideoNode(props,
+                                 context,
+                                 videoPlayer,
+                                 videoRenderableLoader,
+                                 viewRenderableLoader,
+                                 videoNodeClipper,
+                                 fontProvider,
+                                 arResourcesProvider);
+        });
+        nodeFactories.put(ELEMENT_SCROLL_BAR, UiScrollBarNode::new);
+        nodeFactories.put(ELEMENT_SCROLL_VIEW, props -> new UiScrollViewNode(props, context, viewRenderableLoader, uiNodeClipper));
+        nodeFactories.put(ELEMENT_SLIDER, props -> new UiSliderNode(props, context, viewRenderableLoader, uiNodeClipper));
+        nodeFactories.put(ELEMENT_SPINNER, props -> new UiSpinnerNode(props, context, viewRenderableLoader, uiNodeClipper));
+        nodeFactories.put(ELEMENT_CIRCLE_CONFIRMATION, props -> new UiCircleConfirmationNode(props, context, viewRenderableLoader, uiNodeClipper));
+        nodeFactories.put(ELEMENT_TOGGLE, props -> {
+            ToggleViewManager manager = new LinearToggleViewManager(fontProvider, new ToggleIconsProviderImpl());
+            return new UiToggleNode(props, context, viewRenderableLoader, uiNodeClipper, manager);
+        });
+        nodeFactories.put(ELEMENT_TOGGLE_GROUP, ToggleGroupNode::new);
+        nodeFactories.put(ELEMENT_PROGRESS_BAR, props -> new UiProgressBarNode(props, context, viewRenderableLoader, uiNodeClipper));
+        nodeFactories.put(ELEMENT_LINE, props -> new LineNode(props, lineRenderableBuilder));
+        nodeFactories.put(ELEMENT_GRID_LAYOUT, props -> new UiGridLayout(props, new GridLayoutManager()));
+        nodeFactories.put(ELEMENT_LINEAR_LAYOUT, props -> {
+            VerticalLinearLayoutManager verticalManager = new VerticalLinearLayoutManager<LayoutParams>();
+            HorizontalLinearLayoutManager horizontalManager = new HorizontalLinearLayoutManager<LayoutParams>();
+            LinearLayoutManager manager = new LinearLayoutManager(verticalManager, horizontalManager);
+            return new UiLinearLayout(props, manager);
+        });
+        nodeFactories.put(ELEMENT_DROPDOWN_LIST, props -> new UiDropdownListNode(props, context, viewRenderableLoader, uiNodeClipper, fontProvider, iconsRepo));
+        nodeFactories.put(ELEMENT_DROPDOWN_LIST_ITEM, props -> new UiDropdownListItemNode(props, fontProvider));
+        nodeFactories.put(ELEMENT_COLOR_PICKER, props -> new UiColorPickerNode(props,
+                                                                                context,
+                                                                                viewRenderableLoader,
+                                                                                uiNodeClipper,
+                                                                                fontProvider,
+                                                                                iconsRepo,
+                                                                                dialogProvider));
+        nodeFactories.put(ELEMENT_WEB_VIEW, props -> new UIWebViewNode(props, context, viewRenderableLoader, uiNodeClipper));
+        nodeFactories.put(ELEMENT_RECT_LAYOUT, props -> new UiRectLayout(props, new VerticalLinearLayoutManager<LayoutParams>()));
+        nodeFactories.put(ELEMENT_LIST_VIEW_ITEM, props -> new UiListViewItemNode(props, context, viewRenderableLoader, uiNodeClipper));
+        nodeFactories.put(ELEMENT_LIST_VIEW, props -> new UiListViewNode(props, context, viewRenderableLoader, uiNodeClipper));
+        nodeFactories.put(ELEMENT_DATE_PICKER, props -> new UiDatePickerNode(props, context, viewRenderableLoader, uiNodeClipper, dialogProvider));
+        nodeFactories.put(ELEMENT_TIME_PICKER, props -> new UiTimePickerNode(props, context, viewRenderableLoader, uiNodeClipper, dialogProvider));
+        nodeFactories.put(ELEMENT_DIALOG, props -> new DialogNode(props, context, iconsRepo, dialogProvider));
+        nodeFactories.put(ELEMENT_TAB, props -> new UiTabNode(props, context, viewRenderableLoader, uiNodeClipper, fontProvider, iconsRepo));
+        nodeFactories.put(ELEMENT_PANEL, PanelNode::new);
+        nodeFactories.put(ELEMENT_CONTENT, ContentNode::new);
+        nodeFactories.put(ELEMENT_PAGE_VIEW, props -> new PageViewNode(props, new PageViewLayoutManager()));
+        nodeFactories.put(ELEMENT_AUDIO, props -> {
+            AudioEngine audioEngine = getSharedAudioEngine().createSource();
+            FileProvider fileProvider = new UriFileProvider(context);
+            return new AudioNode(props, context, audioEngine, fileProvider);
+        });
+        nodeFactories.put(ELEMENT_FILE_PICKER, props -> {
+            NativeFilePickerNode filePicker = new NativeFilePickerNode(props,
+                                                                       context,
+                                                                       viewRenderableLoader,
+                                                                       uiNodeClipper,
+                                                                       fontProvider,
+                                                                       iconsRepo);
+            activityResultObservers.add(filePicker);
+            return filePicker;
+        });
+    }
+
+    private void registerEventSubscribers() {
+        eventSubscribers.put(EVENT_APP_START, nodeId -> eventsManager.addOnAppStartEventHandler(nodeId));
+        eventSubscribers.put(EVENT_ACTIVATE, nodeId -> eventsManager.addOnActivateEventHandler(nodeId));
+        eventSubscribers.put(EVENT_CLICK, nodeId -> eventsManager.addOnActivateEventHandler(nodeId));
+        eventSubscribers.put(EVENT_PRESS, nodeId -> eventsManager.addOnPressEventHandler(nodeId));
+        eventSubscribers.put(EVENT_LONG_PRESS, nodeId -> eventsManager.addOnLongPressEventHandler(nodeId));
+        eventSubscribers.put(EVENT_RELEASE, nodeId -> eventsManager.addOnReleaseEventHandler(nodeId));
+        eventSubscribers.put(EVENT_FOCUS_GAINED, nodeId -> eventsManager.addOnFocusGainedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_FOCUS_LOST, nodeId -> eventsManager.addOnFocusLostEventHandler(nodeId));
+        eventSubscribers.put(EVENT_UPDATE, nodeId -> eventsManager.addOnUpdateEventHandler(nodeId));
+        eventSubscribers.put(EVENT_DELETE, nodeId -> eventsManager.addOnDeleteEventHandler(nodeId));
+        eventSubscribers.put(EVENT_ENABLED, nodeId -> eventsManager.addOnEnabledEventHandler(nodeId));
+        eventSubscribers.put(EVENT_DISABLED, nodeId -> eventsManager.addOnDisabledEventHandler(nodeId));
+        eventSubscribers.put(EVENT_TEXT_CHANGED, nodeId -> eventsManager.addOnTextChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_TOGGLE_CHANGED, nodeId -> eventsManager.addOnToggleChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_VIDEO_PREPARED, nodeId -> eventsManager.addOnVideoPreparedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_SLIDER_CHANGED, nodeId -> eventsManager.addOnSliderChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_SELECTION_CHANGED, nodeId -> eventsManager.addOnSelectionChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_COLOR_CONFIRMED, nodeId -> eventsManager.addOnColorConfirmedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_COLOR_CANCELED, nodeId -> eventsManager.addOnColorCanceledEventHandler(nodeId));
+        eventSubscribers.put(EVENT_COLOR_CHANGED, nodeId -> eventsManager.addOnColorChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_DATE_CHANGED, nodeId -> eventsManager.addOnDateChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_DATE_CONFIRMED, nodeId -> eventsManager.addOnDateConfirmedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_SCROLL_CHANGED, nodeId -> eventsManager.addOnScrollChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_TIME_CHANGED, nodeId -> eventsManager.addOnTimeChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_TIME_CONFIRMED, nodeId -> eventsManager.addOnTimeConfirmedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_DIALOG_CONFIRMED, nodeId -> eventsManager.addOnDialogConfirmedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_DIALOG_CANCELED, nodeId -> eventsManager.addOnDialogCanceledEventHandler(nodeId));
+        eventSubscribers.put(EVENT_DIALOG_TIME_EXPIRED, nodeId -> eventsManager.addOnDialogTimeExpiredEventHandler(nodeId));
+        eventSubscribers.put(EVENT_CONFIRMATION_COMPLETED, nodeId -> eventsManager.addOnConfirmationCompletedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_CONFIRMATION_UPDATED, nodeId -> eventsManager.addOnConfirmationUpdatedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_CONFIRMATION_CANCELED, nodeId -> eventsManager.addOnConfirmationCanceledEventHandler(nodeId));
+        eventSubscribers.put(EVENT_FILE_SELECTED, nodeId -> eventsManager.addOnFileSelectedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_MODE_CHANGED, nodeId -> eventsManager.addOnModeChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_ROTATION_CHANGED, nodeId -> eventsManager.addOnRotationChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_SCALE_CHANGED, nodeId -> eventsManager.addOnScaleChangedEventHandler(nodeId));
+        eventSubscribers.put(EVENT_POSITION_CHANGED, nodeId -> eventsManager.addOnPositionChangedNodeHandler(nodeId));
+    }
+
     private void addNode(ReactNode node, String nodeId) {
         node.build();
         nodesManager.registerNode(node, nodeId);
@@ -722,6 +1006,9 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
         if (nodesManager instanceof LifecycleEventListener) {
             ((LifecycleEventListener) nodesManager).onHostResume();
         }
+        if (sharedAudioEngine != null) {
+            sharedAudioEngine.resume();
+        }
     }
 
     @Override
@@ -729,6 +1016,10 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
         if (nodesManager instanceof LifecycleEventListener) {
             ((LifecycleEventListener) nodesManager).onHostPause();
         }
+        // the engine is shared, so the audio nodes pause only their own sounds
+        if (sharedAudioEngine != null) {
+            sharedAudioEngine.pause();
+        }
     }
 
     @Override
@@ -756,6 +1047,40 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
         super.onCatalystInstanceDestroy();
         nodesManager.clear();
         mediaPlayerPool.destroy();
+        colorMaterialCache.release();
+        loadScheduler.release();
+        mainHandler.post(() -> Choreographer.getInstance().removeFrameCallback(pendingUpdatesApplier));
+        if (sharedAudioEngine != null) {
+            sharedAudioEngine.release();
+            sharedAudioEngine = null;
+        }
+    }
+
+    private void schedulePendingUpdates() {
+        if (pendingUpdatesScheduled.compareAndSet(false, true)) {
+            // Choreographer of the main thread (the updates are applied there)
+            mainHandler.post(() -> Choreographer.getInstance().postFrameCallback(pendingUpdatesApplier));
+        }
+    }
+
+    private void applyPendingUpdates() {
+        pendingUpdatesScheduled.set(false);
+        boolean hasRemaining = nodesManager.applyPendingUpdates();
+        if (hasRemaining) {
+            // updates of nodes that are not created yet
+            schedulePendingUpdates();
+        }
+    }
+
+    private SharedAudioEngine getSharedAudioEngine() {
+        if (sharedAudioEngine == null) {
+            GvrAudioEngine gvrAudioEngine = new GvrAudioEngine(context, GvrAudioEngine.RenderingMode.BINAURAL_HIGH_QUALITY);
+            ExternalAudioEngine externalAudioEngine = new GvrAudioEngineWrapper(gvrAudioEngine);
+            sharedAudioEngine = new SharedAudioEngine(Executors.newSingleThreadExecutor(),
+                                                      externalAudioEngine,
+                                                      arResourcesProvider);
+        }
+        return sharedAudioEngine;
     }
 
     @Nullable
@@ -775,4 +1100,12 @@ public class ARComponentManager extends ReactContextBaseJavaModule implements Li
 
         return null;
     }
+
+    private interface NodeFactory {
+        ReactNode create(ReadableMap props);
+    }
+
+    private interface EventSubscriber {
+        void subscribe(String nodeId);
+    }
 }
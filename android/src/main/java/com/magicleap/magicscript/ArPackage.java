@@ -30,7 +30,7 @@ import com.magicleap.magicscript.plane.ARPlaneDetectorEventsManager;
 import com.magicleap.magicscript.scene.NodesManager;
 import com.magicleap.magicscript.scene.UiNodesManager;
 import com.magicleap.magicscript.scene.nodes.prism.AppInfoProvider;
-import com.magicleap.magicscript.scene.nodes.video.GlobalMediaPlayerPool;
+import com.magicleap.magicscript.scene.nodes.video.BoundedMediaPlayerPool;
 import com.magicleap.magicscript.scene.nodes.video.MediaPlayerPool;
 
 import org.jetbrains.annotations.NotNull;
@@ -46,8 +46,10 @@ public class ArPackage implements ReactPackage {
     @Override
     public List<NativeModule> createNativeModules(@NotNull ReactApplicationContext reactContext) {
         NodesManager nodesManager = new UiNodesManager();
-        EventsManager eventsManager = new ReactEventsManager(new ReactEventsEmitter(reactContext), nodesManager);
-        MediaPlayerPool mediaPlayerPool = GlobalMediaPlayerPool.INSTANCE;
+        EventsEmitter eventsEmitter = new BatchingEventsEmitter(new ReactEventsEmitter(reactContext),
+                                                                ReactEventsManager.CONTINUOUS_EVENTS);
+        EventsManager eventsManager = new ReactEventsManager(eventsEmitter, nodesManager);
+        MediaPlayerPool mediaPlayerPool = new BoundedMediaPlayerPool();
         ArResourcesProvider arResourcesProvider = new ArResourcesManager();
         AppInfoProvider appInfoProvider = new ReactAppInfoProvider(reactContext);
         ARComponentManager arComponentManager = new ARComponentManager(reactContext,
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.magicleap.magicscript
+
+import android.os.Bundle
+import android.os.Handler
+import android.os.Looper
+import android.view.Choreographer
+
+/**
+ * Events emitter that collects the events sent during a frame and delivers them
+ * to JS as a single [EVENT_BATCH] event through the [emitter].
+ *
+ * Events listed in [coalescedEvents] deliver only the latest value per node in a frame.
+ */
+class BatchingEventsEmitter @JvmOverloads constructor(
+    private val emitter: EventsEmitter,
+    private val coalescedEvents: Set<String> = emptySet()
+) : EventsEmitter, Choreographer.FrameCallback {
+
+    companion object {
+        // name of the event that delivers all events collected in a frame
+        const val EVENT_BATCH = "onEventsBatch"
+
+        const val BATCH_ARG_EVENTS = "events"
+        const val BATCH_ARG_NAME = "name"
+        const val BATCH_ARG_PARAMS = "params"
+    }
+
+    private val pendingEvents = mutableListOf<PendingEvent>()
+    private val coalescingIndex = HashMap<CoalescingKey, PendingEvent>()
+    private val mainHandler = Handler(Looper.getMainLooper())
+    private var frameScheduled = false
+
+    override fun sendEvent(eventName: String, params: Bundle) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            mainHandler.post { sendEvent(eventName, params) }
+            return
+        }
+
+        if (eventName in coalescedEvents) {
+            val key = CoalescingKey(eventName, params.getString(ReactEventsManager.EVENT_ARG_NODE_ID))
+            val pending = coalescingIndex[key]
+            if (pending != null) {
+                pending.params = params
+            } else {
+                val event = PendingEvent(eventName, params, key)
+                coalescingIndex[key] = event
+                pendingEvents.add(event)
+            }
+        } else {
+            // later continuous events should not be delivered before this one
+            coalescingIndex.clear()
+            pendingEvents.add(PendingEvent(eventName, params, null))
+        }
+        scheduleFrame()
+    }
+
+    override fun doFrame(frameTimeNanos: Long) {
+        frameScheduled = false
+        flush()
+    }
+
+    /**
+     * Delivers the pending events in a single batch
+     */
+    fun flush() {
+        if (pendingEvents.isEmpty()) {
+            return
+        }
+
+        val batch = ArrayList<Bundle>(pendingEvents.size)
+        pendingEvents.forEach { event ->
+            batch.add(Bundle().apply {
+                putString(BATCH_ARG_NAME, event.name)
+                putBundle(BATCH_ARG_PARAMS, event.params)
+            })
+        }
+        pendingEvents.clear()
+        coalescingIndex.clear()
+
+        val params = Bundle()
+        params.putParcelableArrayList(BATCH_ARG_EVENTS, batch)
+        emitter.sendEvent(EVENT_BATCH, params)
+    }
+
+    private fun scheduleFrame() {
+        if (!frameScheduled) {
+            frameScheduled = true
+            Choreographer.getInstance().postFrameCallback(this)
+        }
+    }
+
+    private data class CoalescingKey(val eventName: String, val nodeId: String?)
+
+    private class PendingEvent(
+        val name: String,
+        var params: Bundle,
+        val coalescingKey: CoalescingKey?
+    )
+
+}
@@ -80,6 +80,19 @@ class ReactEventsManager(
         const val EVENT_SCALE_CHANGED = "onScaleChanged"
         const val EVENT_POSITION_CHANGED = "onPositionChanged"
 
+        // Events that are sent continuously (e.g. during a drag gesture),
+        // so only the latest value in a frame has to be delivered
+        @JvmField
+        val CONTINUOUS_EVENTS = setOf(
+            EVENT_SLIDER_VALUE_CHANGED,
+            EVENT_SCROLL_CHANGED,
+            EVENT_CONFIRMATION_UPDATED,
+            EVENT_COLOR_CHANGED,
+            EVENT_POSITION_CHANGED,
+            EVENT_ROTATION_CHANGED,
+            EVENT_SCALE_CHANGED
+        )
+
         // Supported events arguments
         const val EVENT_ARG_URI = "uri"
         const val EVENT_ARG_NODE_ID = "nodeId"
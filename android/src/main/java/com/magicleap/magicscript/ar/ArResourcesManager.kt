@@ -46,6 +46,7 @@ class ArResourcesManager : ArResourcesProvider() {
         cameraState = null
         cameraPose = null
         arLoaded = false
+        clearAnchorNodes()
     }
 
     /**
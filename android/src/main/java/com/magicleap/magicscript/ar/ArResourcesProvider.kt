@@ -20,15 +20,45 @@ import com.google.ar.core.HitResult
 import com.google.ar.core.Pose
 import com.google.ar.core.Session
 import com.google.ar.core.TrackingState
+import com.google.ar.sceneform.AnchorNode
 import com.google.ar.sceneform.Scene
 import com.google.ar.sceneform.ux.TransformationSystem
 
 abstract class ArResourcesProvider {
+
+    companion object {
+        private const val DEFAULT_CAMERA_LISTENERS_BUDGET_NANOS = 4_000_000L
+    }
+
+    /**
+     * Time per frame for notifying the deferrable camera listeners. Listeners
+     * that don't fit in the budget are notified in the next frames (at least
+     * one deferrable listener is notified per frame)
+     */
+    var cameraListenersBudgetNanos = DEFAULT_CAMERA_LISTENERS_BUDGET_NANOS
+
+    /**
+     * Time spent in all camera listeners during the last camera update
+     */
+    var cameraListenersTimeNanos = 0L
+        private set
+
+    /**
+     * Number of deferrable camera listeners not notified during
+     * the last camera update because of [cameraListenersBudgetNanos]
+     */
+    var deferredCameraListenersCount = 0
+        private set
+
     private var arSceneListeners = listOf<ArSceneChangedListener>()
     private var arLoadedListeners = listOf<ArLoadedListener>()
     private var cameraUpdatedListeners = listOf<CameraUpdatedListener>()
+    private var deferrableCameraListeners = listOf<CameraUpdatedListener>()
+    private var nextDeferrableCameraListener = 0
     private var transformationSystemListeners = listOf<TransformationSystemListener>()
     private var planeTapListeners = listOf<PlaneTapListener>()
+    private val anchorNodes = HashMap<String, AnchorNode>()
+    private val anchorNodeListeners = HashMap<String, List<AnchorNodeListener>>()
 
     /**
      * Registers a listener that will be called when ARCore's scene is loaded first time or changed.
@@ -57,13 +87,23 @@ abstract class ArResourcesProvider {
 
     /**
      * Registers a listener that will be called when camera position or state has changed.
+     *
+     * @param deferrable if true, the listener may be notified in one of the next frames
+     * when the listeners exceed [cameraListenersBudgetNanos] (it should be used for
+     * expensive listeners that don't have to run every frame)
      */
-    fun addCameraUpdatedListener(listener: CameraUpdatedListener) {
-        cameraUpdatedListeners = cameraUpdatedListeners + listener
+    @JvmOverloads
+    fun addCameraUpdatedListener(listener: CameraUpdatedListener, deferrable: Boolean = false) {
+        if (deferrable) {
+            deferrableCameraListeners = deferrableCameraListeners + listener
+        } else {
+            cameraUpdatedListeners = cameraUpdatedListeners + listener
+        }
     }
 
     fun removeCameraUpdatedListener(listener: CameraUpdatedListener) {
         cameraUpdatedListeners = cameraUpdatedListeners.filter { it != listener }
+        deferrableCameraListeners = deferrableCameraListeners.filter { it != listener }
     }
 
     /**
@@ -89,6 +129,52 @@ abstract class ArResourcesProvider {
         planeTapListeners = planeTapListeners.filter { it != listener }
     }
 
+    /**
+     * Registers an anchored node under the [uuid], so nodes can be attached
+     * to its anchor (e.g. a Prism with an anchor UUID).
+     * Listeners waiting for the [uuid] are notified if the node has an anchor.
+     *
+     * Host apps that create anchor nodes should register them via
+     * [ArResourcesManager.INSTANCE]; nodes that are only added to the scene
+     * (named with the UUID) are found with a slower, periodic scene lookup.
+     */
+    fun registerAnchorNode(uuid: String, anchorNode: AnchorNode) {
+        anchorNodes[uuid] = anchorNode
+        if (anchorNode.anchor != null) {
+            anchorNodeListeners.remove(uuid)?.forEach { it.onAnchorNodeAvailable(uuid, anchorNode) }
+        }
+    }
+
+    fun unregisterAnchorNode(uuid: String) {
+        anchorNodes.remove(uuid)
+    }
+
+    /**
+     * Returns the anchored node registered under the [uuid] or null if
+     * it's not registered or has no anchor yet
+     */
+    fun findAnchorNode(uuid: String): AnchorNode? {
+        return anchorNodes[uuid]?.takeIf { it.anchor != null }
+    }
+
+    /**
+     * Registers a one-shot listener that will be called when an anchored node
+     * is registered under the [uuid]
+     */
+    fun addAnchorNodeListener(uuid: String, listener: AnchorNodeListener) {
+        anchorNodeListeners[uuid] = (anchorNodeListeners[uuid] ?: listOf()) + listener
+    }
+
+    fun removeAnchorNodeListener(uuid: String, listener: AnchorNodeListener) {
+        val listeners = anchorNodeListeners[uuid] ?: return
+        val remaining = listeners.filter { it != listener }
+        if (remaining.isEmpty()) {
+            anchorNodeListeners.remove(uuid)
+        } else {
+            anchorNodeListeners[uuid] = remaining
+        }
+    }
+
     /**
      * Returns current ARCore's scene if already loaded or null otherwise
      */
@@ -120,12 +206,36 @@ abstract class ArResourcesProvider {
      */
     abstract fun isPlaneDetectionEnabled(): Boolean
 
+    /**
+     * Removes all registered anchor nodes (anchors are not valid in a new session)
+     */
+    protected fun clearAnchorNodes() {
+        anchorNodes.clear()
+    }
+
     protected fun notifySceneChanged(arScene: Scene) {
         arSceneListeners.forEach { it.onSceneChanged(arScene) }
     }
 
     protected fun notifyCameraUpdated(cameraPose: Pose, state: TrackingState) {
+        val startTime = System.nanoTime()
         cameraUpdatedListeners.forEach { it.onCameraUpdated(cameraPose, state) }
+
+        val deferrable = deferrableCameraListeners
+        var notified = 0
+        while (notified < deferrable.size) {
+            if (notified > 0 && System.nanoTime() - startTime > cameraListenersBudgetNanos) {
+                break
+            }
+            val index = (nextDeferrableCameraListener + notified) % deferrable.size
+            deferrable[index].onCameraUpdated(cameraPose, state)
+            notified++
+        }
+        if (deferrable.isNotEmpty()) {
+            nextDeferrableCameraListener = (nextDeferrableCameraListener + notified) % deferrable.size
+        }
+        deferredCameraListenersCount = deferrable.size - notified
+        cameraListenersTimeNanos = System.nanoTime() - startTime
     }
 
     protected fun notifyTransformationSystemChanged(system: TransformationSystem) {
@@ -160,6 +270,10 @@ abstract class ArResourcesProvider {
         fun onArLoaded(firstTime: Boolean)
     }
 
+    interface AnchorNodeListener {
+        fun onAnchorNodeAvailable(uuid: String, anchorNode: AnchorNode)
+    }
+
     data class CameraInfo(
         val state: TrackingState?,
         val pose: Pose?
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.magicleap.magicscript.ar
+
+import com.google.ar.core.Pose
+import kotlin.math.abs
+import kotlin.math.acos
+import kotlin.math.min
+import kotlin.math.sqrt
+
+/**
+ * Movement of the camera between two poses
+ *
+ * @param distance distance travelled in meters
+ * @param angle rotation angle in degrees
+ */
+data class CameraMovement(val distance: Float, val angle: Float) {
+
+    companion object {
+        // smaller movements are not noticeable for the user
+        const val NOTICEABLE_DISTANCE = 0.005f // in meters
+        const val NOTICEABLE_ANGLE = 0.5f // in degrees
+
+        fun between(from: Pose, to: Pose): CameraMovement {
+            val dx = to.tx() - from.tx()
+            val dy = to.ty() - from.ty()
+            val dz = to.tz() - from.tz()
+            val distance = sqrt(dx * dx + dy * dy + dz * dz)
+
+            val dot = from.qx() * to.qx() + from.qy() * to.qy() +
+                    from.qz() * to.qz() + from.qw() * to.qw()
+            val angle = Math.toDegrees(2.0 * acos(min(abs(dot), 1f))).toFloat()
+            return CameraMovement(distance, angle)
+        }
+    }
+
+    /**
+     * Returns true if both the distance and the angle are lower than the given values
+     */
+    fun isBelow(distance: Float, angle: Float): Boolean {
+        return this.distance < distance && this.angle < angle
+    }
+
+    /**
+     * Returns true if the movement is big enough to be noticed by the user
+     * (see [NOTICEABLE_DISTANCE] and [NOTICEABLE_ANGLE])
+     */
+    fun isNoticeable(): Boolean {
+        return !isBelow(NOTICEABLE_DISTANCE, NOTICEABLE_ANGLE)
+    }
+}
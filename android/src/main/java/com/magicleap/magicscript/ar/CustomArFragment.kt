@@ -53,10 +53,14 @@ class CustomArFragment : ArFragment() {
                 arResourcesManager.onCameraUpdated(camera.pose, camera.trackingState)
             }
             if (onReadyCalled && ARPlaneDetectorBridge.INSTANCE.isDetecting()) {
-                val newFrame = arSceneView.session?.update()
-                if (newFrame != null && newFrame.timestamp != lastTimestamp) {
-                    lastTimestamp = newFrame.timestamp
-                    ARPlaneDetectorBridge.INSTANCE.onPlaneUpdate(newFrame.getUpdatedTrackables(Plane::class.java).toList())
+                // using the frame already updated by the scene view
+                val frame = arSceneView.arFrame
+                if (frame != null && frame.timestamp != lastTimestamp) {
+                    lastTimestamp = frame.timestamp
+                    ARPlaneDetectorBridge.INSTANCE.onPlaneUpdate(
+                        frame.getUpdatedTrackables(Plane::class.java),
+                        frame.timestamp
+                    )
                 }
             }
         }
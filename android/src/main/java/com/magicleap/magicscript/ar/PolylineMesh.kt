@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.ar
+
+import com.google.ar.sceneform.math.Vector3
+import com.google.ar.sceneform.rendering.Material
+import com.google.ar.sceneform.rendering.RenderableDefinition
+import com.google.ar.sceneform.rendering.Vertex
+import kotlin.math.abs
+
+/**
+ * Geometry of a polyline that is rendered as a single mesh. Each segment is
+ * a thin box without the end caps and occupies a fixed slot in the vertex list,
+ * so a segment can be replaced without touching the other ones.
+ *
+ * @param thickness width and height of the line cross-section in meters
+ */
+class PolylineMesh(private val thickness: Float) {
+
+    companion object {
+        const val VERTICES_PER_SEGMENT = 16
+        const val INDICES_PER_SEGMENT = 24
+
+        // order of vertices in a side face (as a pair of triangles)
+        private val FACE_INDICES = intArrayOf(0, 1, 2, 0, 2, 3)
+    }
+
+    private val mVertices = ArrayList<Vertex>()
+    private val mTriangleIndices = ArrayList<Int>()
+
+    val vertices: List<Vertex> = mVertices
+    val triangleIndices: List<Int> = mTriangleIndices
+
+    val segmentCount: Int
+        get() = mVertices.size / VERTICES_PER_SEGMENT
+
+    /**
+     * True when the mesh does not contain any visible segment
+     */
+    val isEmpty: Boolean
+        get() = visibleSegmentCount == 0
+
+    /**
+     * Number of segments that are not collapsed to a point
+     */
+    var visibleSegmentCount = 0
+        private set
+
+    private var visibleSegments = BooleanArray(0)
+
+    /**
+     * Sets the segment at [slot] to a line from [start] to [end].
+     * The [slot] can be equal to [segmentCount] in order to append a segment.
+     */
+    fun setSegment(slot: Int, start: Vector3, end: Vector3) {
+        val diff = Vector3.subtract(end, start)
+        if (diff.length() == 0f) {
+            clearSegment(slot, start)
+            return
+        }
+        val direction = diff.normalized()
+        val up = if (abs(Vector3.dot(direction, Vector3.up())) > 0.99f) {
+            Vector3.forward()
+        } else {
+            Vector3.up()
+        }
+        val halfThickness = thickness / 2
+        val side = Vector3.cross(direction, up).normalized()
+        val top = Vector3.cross(side, direction)
+
+        // side faces as pairs of (normal, tangent), where direction x tangent = normal
+        writeFace(slot, 0, start, end, side, top, halfThickness)
+        writeFace(slot, 1, start, end, top, side.negated(), halfThickness)
+        writeFace(slot, 2, start, end, side.negated(), top.negated(), halfThickness)
+        writeFace(slot, 3, start, end, top.negated(), side, halfThickness)
+        setSegmentVisible(slot, true)
+    }
+
+    /**
+     * Collapses the segment at [slot] to the [point], so it's not rendered,
+     * but it still occupies the slot (e.g. when it's clipped).
+     * The [slot] can be equal to [segmentCount] in order to append a segment.
+     */
+    fun clearSegment(slot: Int, point: Vector3) {
+        val vertex = Vertex.builder()
+            .setPosition(point)
+            .setNormal(Vector3.up())
+            .build()
+        for (i in 0 until VERTICES_PER_SEGMENT) {
+            setVertex(slot * VERTICES_PER_SEGMENT + i, vertex)
+        }
+        ensureIndices(slot)
+        setSegmentVisible(slot, false)
+    }
+
+    /**
+     * Removes the segments at slots equal or greater than [segmentCount]
+     */
+    fun truncate(segmentCount: Int) {
+        if (segmentCount >= this.segmentCount) {
+            return
+        }
+        for (i in segmentCount until this.segmentCount) {
+            setSegmentVisible(i, false)
+        }
+        mVertices.subList(segmentCount * VERTICES_PER_SEGMENT, mVertices.size).clear()
+        mTriangleIndices.subList(segmentCount * INDICES_PER_SEGMENT, mTriangleIndices.size)
+            .clear()
+    }
+
+    fun clear() {
+        truncate(0)
+    }
+
+    /**
+     * Creates a renderable definition of the mesh using the [material]
+     */
+    fun toDefinition(material: Material): RenderableDefinition {
+        val submesh = RenderableDefinition.Submesh.builder()
+            .setTriangleIndices(mTriangleIndices)
+            .setMaterial(material)
+            .build()
+
+        return RenderableDefinition.builder()
+            .setVertices(mVertices)
+            .setSubmeshes(listOf(submesh))
+            .build()
+    }
+
+    private fun writeFace(
+        slot: Int,
+        face: Int,
+        start: Vector3,
+        end: Vector3,
+        normal: Vector3,
+        tangent: Vector3,
+        halfThickness: Float
+    ) {
+        val normalOffset = normal.scaled(halfThickness)
+        val tangentOffset = tangent.scaled(halfThickness)
+        val lower = Vector3.subtract(normalOffset, tangentOffset)
+        val upper = Vector3.add(normalOffset, tangentOffset)
+
+        val firstVertex = slot * VERTICES_PER_SEGMENT + face * 4
+        setVertex(firstVertex, createVertex(Vector3.add(start, lower), normal))
+        setVertex(firstVertex + 1, createVertex(Vector3.add(end, lower), normal))
+        setVertex(firstVertex + 2, createVertex(Vector3.add(end, upper), normal))
+        setVertex(firstVertex + 3, createVertex(Vector3.add(start, upper), normal))
+        ensureIndices(slot)
+    }
+
+    private fun createVertex(position: Vector3, normal: Vector3): Vertex {
+        return Vertex.builder()
+            .setPosition(position)
+            .setNormal(normal)
+            .build()
+    }
+
+    private fun setVertex(index: Int, vertex: Vertex) {
+        if (index < mVertices.size) {
+            mVertices[index] = vertex
+        } else {
+            mVertices.add(vertex)
+        }
+    }
+
+    private fun ensureIndices(slot: Int) {
+        val firstIndex = slot * INDICES_PER_SEGMENT
+        if (firstIndex < mTriangleIndices.size) {
+            return
+        }
+        val firstVertex = slot * VERTICES_PER_SEGMENT
+        for (face in 0 until 4) {
+            for (index in FACE_INDICES) {
+                mTriangleIndices.add(firstVertex + face * 4 + index)
+            }
+        }
+    }
+
+    private fun setSegmentVisible(slot: Int, visible: Boolean) {
+        if (slot >= visibleSegments.size) {
+            visibleSegments = visibleSegments.copyOf(maxOf(slot + 1, visibleSegments.size * 2))
+        }
+        if (visibleSegments[slot] != visible) {
+            visibleSegments[slot] = visible
+            visibleSegmentCount += if (visible) 1 else -1
+        }
+    }
+
+}
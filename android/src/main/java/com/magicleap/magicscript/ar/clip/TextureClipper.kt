@@ -21,6 +21,7 @@ import com.magicleap.magicscript.scene.nodes.base.TransformNode
 import com.magicleap.magicscript.scene.nodes.props.AABB
 import com.magicleap.magicscript.scene.nodes.props.Bounding
 import com.magicleap.magicscript.utils.Utils
+import java.util.*
 
 /**
  * Texture clipper intended to use with nodes containing a 2d textured object as a renderable
@@ -40,6 +41,9 @@ class TextureClipper : Clipper {
         private val defaultMaterialClipping = Bounding(-0.5f, 0.0f, 0.5f, 1.0f)
     }
 
+    // clipping last written to the material parameters
+    private val materialClippings = WeakHashMap<Material, Bounding>()
+
     override fun applyClipBounds(node: TransformNode, clipBounds: AABB?) {
         node.contentNode.renderable?.material?.let { material ->
             val materialClip = if (clipBounds != null) {
@@ -47,7 +51,11 @@ class TextureClipper : Clipper {
             } else {
                 defaultMaterialClipping
             }
-            setMaterialClipping(material, materialClip)
+            val currentClip = materialClippings[material]
+            if (currentClip == null || !currentClip.equalInexact(materialClip)) {
+                setMaterialClipping(material, materialClip)
+                materialClippings[material] = materialClip
+            }
         }
     }
 
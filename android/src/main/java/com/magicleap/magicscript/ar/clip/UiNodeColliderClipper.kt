@@ -23,14 +23,33 @@ import com.magicleap.magicscript.scene.nodes.props.AABB
 import com.magicleap.magicscript.scene.nodes.props.Bounding
 import com.magicleap.magicscript.utils.Vector2
 import com.magicleap.magicscript.utils.unaryMinus
+import java.util.*
 
 class UiNodeColliderClipper : Clipper {
 
+    // colliders created by the clipper, reused while they are assigned to the node
+    private val colliders = WeakHashMap<TransformNode, Box>()
+
     override fun applyClipBounds(node: TransformNode, clipBounds: AABB?) {
         if (!node.isVisible || clipBounds == null) {
             return
         }
-        node.contentNode.collisionShape = createClippedCollider(node, clipBounds)
+        val clippedCollider = createClippedCollider(node, clipBounds)
+
+        val collider = colliders[node]
+        if (collider == null || node.contentNode.collisionShape !== collider) {
+            node.contentNode.collisionShape = clippedCollider
+            colliders[node] = clippedCollider
+            return
+        }
+
+        // Box notifies the collider about changes, so we update it only when needed
+        if (!collider.size.equals(clippedCollider.size)) {
+            collider.size = clippedCollider.size
+        }
+        if (!collider.center.equals(clippedCollider.center)) {
+            collider.center = clippedCollider.center
+        }
     }
 
     private fun createClippedCollider(node: TransformNode, clipBounds: AABB): Box {
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.ar.renderable
+
+import android.content.Context
+import com.google.ar.sceneform.rendering.Color
+import com.google.ar.sceneform.rendering.Material
+import com.google.ar.sceneform.rendering.MaterialFactory
+import com.magicleap.magicscript.ar.ArResourcesProvider
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Cache of the colored materials shared by the cube and line builders. Materials are
+ * cached by color, roughness and reflectance, so renderables of the same style share
+ * a material.
+ */
+class ColorMaterialCache(
+    private val context: Context,
+    private val arResourcesProvider: ArResourcesProvider
+) : ArResourcesProvider.ArLoadedListener {
+
+    private val materials = HashMap<MaterialKey, CompletableFuture<Material>>()
+
+    init {
+        arResourcesProvider.addArLoadedListener(this)
+    }
+
+    /**
+     * Returns the material of the given style (it should be called after AR is loaded)
+     *
+     * @param roughness material roughness in range 0 - 1
+     * @param reflectance material reflectance in range 0 - 1
+     */
+    fun getMaterial(color: Color, roughness: Float, reflectance: Float): CompletableFuture<Material> {
+        val key = MaterialKey(color.r, color.g, color.b, color.a, roughness, reflectance)
+        val cached = materials[key]
+        if (cached != null && !cached.isCompletedExceptionally) {
+            return cached
+        }
+
+        val material = MaterialFactory
+            .makeTransparentWithColor(context, color)
+            .thenApply { material ->
+                material.setFloat(MaterialFactory.MATERIAL_REFLECTANCE, reflectance)
+                material.setFloat(MaterialFactory.MATERIAL_ROUGHNESS, roughness)
+                material
+            }
+        materials[key] = material
+        return material
+    }
+
+    override fun onArLoaded(firstTime: Boolean) {
+        if (!firstTime) {
+            // AR fragment has been recreated, so materials have to be created again
+            materials.clear()
+        }
+    }
+
+    /**
+     * Unregisters the cache from AR events and clears the cached materials
+     */
+    fun release() {
+        arResourcesProvider.removeArLoadedListener(this)
+        materials.clear()
+    }
+
+    private data class MaterialKey(
+        val r: Float,
+        val g: Float,
+        val b: Float,
+        val a: Float,
+        val roughness: Float,
+        val reflectance: Float
+    )
+
+}
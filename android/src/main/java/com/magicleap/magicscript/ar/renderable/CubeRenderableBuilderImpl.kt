@@ -16,53 +16,31 @@
 
 package com.magicleap.magicscript.ar.renderable
 
-import android.content.Context
-import com.google.ar.sceneform.rendering.MaterialFactory
 import com.google.ar.sceneform.rendering.ShapeFactory
-import com.magicleap.magicscript.ar.ArResourcesProvider
 import com.magicleap.magicscript.utils.DataResult
 import com.magicleap.magicscript.utils.logMessage
 
+/**
+ * Cube builder that should be shared by all nodes
+ */
 class CubeRenderableBuilderImpl(
-    private val context: Context,
-    private val arResourcesProvider: ArResourcesProvider
-) : CubeRenderableBuilder,
-    ArResourcesProvider.ArLoadedListener {
-
-    init {
-        arResourcesProvider.addArLoadedListener(this)
-    }
-
-    private val pendingRequests = mutableListOf<CubeRenderableBuilder.LoadRequest>()
+    private val materialCache: ColorMaterialCache,
+    private val loadScheduler: RenderableLoadScheduler
+) : CubeRenderableBuilder {
 
     override fun buildRenderable(request: CubeRenderableBuilder.LoadRequest) {
-        if (arResourcesProvider.isArLoaded()) {
-            load(request)
-        } else {
-            pendingRequests.add(request)
-        }
-    }
-
-    override fun onArLoaded(firstTime: Boolean) {
-        val requestIterator = pendingRequests.iterator()
-        while (requestIterator.hasNext()) {
-            load(requestIterator.next())
-            requestIterator.remove()
+        loadScheduler.schedule(request) { onFinished ->
+            load(request, onFinished)
         }
     }
 
     override fun cancel(request: CubeRenderableBuilder.LoadRequest) {
-        request.cancel()
-        pendingRequests.remove(request)
+        loadScheduler.cancel(request)
     }
 
-    private fun load(request: CubeRenderableBuilder.LoadRequest) {
-        MaterialFactory
-            .makeTransparentWithColor(context, request.color)
+    private fun load(request: CubeRenderableBuilder.LoadRequest, onFinished: () -> Unit) {
+        materialCache.getMaterial(request.color, request.roughness, request.reflectance)
             .thenAccept { material ->
-                material.setFloat(MaterialFactory.MATERIAL_REFLECTANCE, request.reflectance)
-                material.setFloat(MaterialFactory.MATERIAL_ROUGHNESS, request.roughness)
-
                 if (!request.isCancelled) {
                     val renderable =
                         ShapeFactory.makeCube(request.cubeSize, request.cubeCenter, material)
@@ -76,6 +54,7 @@ class CubeRenderableBuilderImpl(
                 logMessage("error building cube material: $throwable")
                 null
             }
+            .whenComplete { _, _ -> onFinished() }
     }
 
-}
\ No newline at end of file
+}
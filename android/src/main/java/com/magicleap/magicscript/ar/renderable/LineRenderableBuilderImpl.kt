@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.ar.renderable
+
+import com.google.ar.sceneform.rendering.ModelRenderable
+import com.magicleap.magicscript.utils.DataResult
+import com.magicleap.magicscript.utils.logMessage
+
+/**
+ * Line builder that should be shared by all line nodes
+ */
+class LineRenderableBuilderImpl(
+    private val materialCache: ColorMaterialCache,
+    private val loadScheduler: RenderableLoadScheduler
+) : LineRenderableBuilder {
+
+    override fun buildRenderable(request: LineRenderableBuilder.LoadRequest) {
+        loadScheduler.schedule(request) { onFinished ->
+            load(request, onFinished)
+        }
+    }
+
+    override fun cancel(request: LineRenderableBuilder.LoadRequest) {
+        loadScheduler.cancel(request)
+    }
+
+    private fun load(request: LineRenderableBuilder.LoadRequest, onFinished: () -> Unit) {
+        materialCache.getMaterial(request.color, request.roughness, request.reflectance)
+            .thenCompose { material ->
+                ModelRenderable.builder()
+                    .setSource(request.mesh.toDefinition(material))
+                    .build()
+            }
+            .thenAccept { renderable ->
+                if (!request.isCancelled) {
+                    renderable.isShadowReceiver = false
+                    renderable.isShadowCaster = false
+                    request.listener.invoke(DataResult.Success(renderable))
+                }
+            }
+            .exceptionally { throwable ->
+                request.listener.invoke(DataResult.Error(throwable))
+                logMessage("error building line renderable: $throwable")
+                null
+            }
+            .whenComplete { _, _ -> onFinished() }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.magicleap.magicscript.ar.renderable
+
+import android.net.Uri
+import com.google.ar.sceneform.assets.RenderableSource
+import com.google.ar.sceneform.rendering.ModelRenderable
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Cache of model renderables keyed by model uri and recenter mode.
+ * Each model is built once and every request receives a copy of it.
+ *
+ * Entries are reference counted: an entry is acquired for every request and it can be
+ * evicted only after all requests have released it. Unused entries are evicted
+ * (least recently used first) when resident size exceeds [maxBytes].
+ *
+ * @param maxBytes memory budget for the cached models
+ */
+class ModelRenderableCache @JvmOverloads constructor(
+    private val maxBytes: Long = DEFAULT_MAX_BYTES
+) {
+
+    companion object {
+        const val DEFAULT_MAX_BYTES = 64L * 1024 * 1024
+    }
+
+    /**
+     * Number of requests served from a cached model
+     */
+    var hits = 0
+        private set
+
+    /**
+     * Number of requests that had to build a model
+     */
+    var misses = 0
+        private set
+
+    /**
+     * Estimated size of all cached models in bytes
+     */
+    var bytesResident = 0L
+        private set
+
+    /**
+     * Number of cached models
+     */
+    val size: Int
+        get() = entries.size
+
+    // access ordered, so iteration starts from the least recently used entry
+    private val entries = LinkedHashMap<Key, Entry>(16, 0.75f, true)
+
+    /**
+     * Returns a copy of the model for [key] and increments its reference count.
+     * If the model is not cached, it's built with [build] and its size
+     * is estimated with [estimateSize].
+     */
+    fun acquire(
+        key: Key,
+        build: () -> CompletableFuture<ModelRenderable>,
+        estimateSize: () -> Long
+    ): CompletableFuture<ModelRenderable> {
+        var entry = entries[key]
+        if (entry == null || entry.model.isCompletedExceptionally) {
+            misses++
+            entry?.let { remove(it) }
+            val newEntry = Entry(key, build(), estimateSize())
+            newEntry.model.exceptionally {
+                // don't keep failed models
+                if (entries[key] === newEntry) {
+                    remove(newEntry)
+                }
+                null
+            }
+            entries[key] = newEntry
+            bytesResident += newEntry.sizeBytes
+            entry = newEntry
+        } else {
+            hits++
+        }
+
+        entry.refCount++
+        trim()
+        return entry.model.thenApply { it.makeCopy() }
+    }
+
+    /**
+     * Decrements reference count of the model for [key]
+     */
+    fun release(key: Key) {
+        val entry = entries[key] ?: return
+        if (entry.refCount > 0) {
+            entry.refCount--
+        }
+        trim()
+    }
+
+    fun clear() {
+        entries.clear()
+        bytesResident = 0
+    }
+
+    private fun trim() {
+        val iterator = entries.values.iterator()
+        while (bytesResident > maxBytes && iterator.hasNext()) {
+            val entry = iterator.next()
+            if (entry.refCount == 0) {
+                iterator.remove()
+                bytesResident -= entry.sizeBytes
+            }
+        }
+    }
+
+    private fun remove(entry: Entry) {
+        entries.remove(entry.key)
+        bytesResident -= entry.sizeBytes
+    }
+
+    data class Key(
+        val modelUri: Uri,
+        val recenterMode: RenderableSource.RecenterMode
+    )
+
+    private class Entry(
+        val key: Key,
+        val model: CompletableFuture<ModelRenderable>,
+        val sizeBytes: Long
+    ) {
+        var refCount = 0
+    }
+
+}
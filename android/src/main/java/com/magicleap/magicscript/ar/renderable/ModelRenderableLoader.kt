@@ -25,6 +25,10 @@ interface ModelRenderableLoader {
 
     fun loadRenderable(request: LoadRequest)
 
+    /**
+     * Cancels the [request] and releases the model loaded for it (if any),
+     * so it should be called when the renderable is no longer used
+     */
     fun cancel(request: LoadRequest)
 
     class LoadRequest(
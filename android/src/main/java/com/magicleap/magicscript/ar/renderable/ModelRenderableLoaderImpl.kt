@@ -20,63 +20,48 @@ import android.content.Context
 import android.net.Uri
 import com.google.ar.sceneform.assets.RenderableSource
 import com.google.ar.sceneform.rendering.ModelRenderable
-import com.magicleap.magicscript.ar.ArResourcesProvider
 import com.magicleap.magicscript.ar.ModelType
 import com.magicleap.magicscript.utils.DataResult
 import com.magicleap.magicscript.utils.Utils
 import com.magicleap.magicscript.utils.logMessage
+import java.util.*
+import java.util.concurrent.CompletableFuture
 
-class ModelRenderableLoaderImpl(
+/**
+ * Model loader that builds each model once and serves copies of it from the [cache].
+ * A model reference is held for every request until the request is cancelled.
+ */
+class ModelRenderableLoaderImpl @JvmOverloads constructor(
     private val context: Context,
-    private val arResourcesProvider: ArResourcesProvider
-) : ModelRenderableLoader,
-    ArResourcesProvider.ArLoadedListener {
+    private val loadScheduler: RenderableLoadScheduler,
+    val cache: ModelRenderableCache = ModelRenderableCache()
+) : ModelRenderableLoader {
 
-    init {
-        arResourcesProvider.addArLoadedListener(this)
+    companion object {
+        // assumed size of a model that is not a local file (e.g. loaded from localhost)
+        private const val UNKNOWN_MODEL_SIZE = 1024L * 1024
     }
 
-    private val pendingRequests = mutableListOf<ModelRenderableLoader.LoadRequest>()
+    private val acquiredModels = IdentityHashMap<ModelRenderableLoader.LoadRequest, ModelRenderableCache.Key>()
 
     override fun loadRenderable(request: ModelRenderableLoader.LoadRequest) {
-        if (arResourcesProvider.isArLoaded()) {
-            load(request)
-        } else {
-            pendingRequests.add(request)
+        loadScheduler.schedule(request) { onFinished ->
+            load(request, onFinished)
         }
     }
 
     override fun cancel(request: ModelRenderableLoader.LoadRequest) {
-        request.cancel()
-        pendingRequests.remove(request)
-    }
-
-    override fun onArLoaded(firstTime: Boolean) {
-        val requestIterator = pendingRequests.iterator()
-        while (requestIterator.hasNext()) {
-            load(requestIterator.next())
-            requestIterator.remove()
+        loadScheduler.cancel(request)
+        acquiredModels.remove(request)?.let {
+            cache.release(it)
         }
     }
 
-    private fun load(request: ModelRenderableLoader.LoadRequest) {
-        val modelUri = request.modelUri
-        val builder = ModelRenderable.builder()
-        val modelType = Utils.detectModelType(modelUri, context)
-        when (modelType) {
-            ModelType.GLB -> setGLBSource(builder, modelUri, request.glbRecenterMode)
-            ModelType.SFB -> setSFBSource(builder, modelUri)
-            ModelType.UNKNOWN -> {
-                val errorMessage = "Unresolved model type"
-                logMessage(errorMessage, true)
-                request.listener.invoke(DataResult.Error(Exception(errorMessage)))
-                return
-            }
-        }
+    private fun load(request: ModelRenderableLoader.LoadRequest, onFinished: () -> Unit) {
+        val key = ModelRenderableCache.Key(request.modelUri, request.glbRecenterMode)
+        acquiredModels[request] = key
 
-        builder
-            .setRegistryId(modelUri)
-            .build()
+        cache.acquire(key, { buildModel(key) }, { estimateSize(key.modelUri) })
             .thenAccept { renderable ->
                 if (!request.isCancelled) {
                     renderable.isShadowReceiver = false
@@ -89,6 +74,34 @@ class ModelRenderableLoaderImpl(
                 request.listener.invoke(DataResult.Error(throwable))
                 null
             }
+            .whenComplete { _, _ -> onFinished() }
+    }
+
+    private fun buildModel(key: ModelRenderableCache.Key): CompletableFuture<ModelRenderable> {
+        val modelUri = key.modelUri
+        val builder = ModelRenderable.builder()
+        when (Utils.detectModelType(modelUri, context)) {
+            ModelType.GLB -> setGLBSource(builder, modelUri, key.recenterMode)
+            ModelType.SFB -> setSFBSource(builder, modelUri)
+            ModelType.UNKNOWN -> {
+                val errorMessage = "Unresolved model type"
+                logMessage(errorMessage, true)
+                return CompletableFuture<ModelRenderable>().apply {
+                    completeExceptionally(Exception(errorMessage))
+                }
+            }
+        }
+        return builder.build()
+    }
+
+    private fun estimateSize(modelUri: Uri): Long {
+        // size of the model file is used as an approximation of the memory it takes
+        val length = try {
+            context.contentResolver.openAssetFileDescriptor(modelUri, "r")?.use { it.length }
+        } catch (e: Exception) {
+            null
+        }
+        return if (length != null && length > 0) length else UNKNOWN_MODEL_SIZE
     }
 
     private fun setGLBSource(
@@ -107,4 +120,4 @@ class ModelRenderableLoaderImpl(
         builder.setSource(context, uri)
     }
 
-}
\ No newline at end of file
+}
@@ -16,6 +16,7 @@
 
 package com.magicleap.magicscript.ar.renderable
 
+import com.google.ar.sceneform.Node
 import com.google.ar.sceneform.rendering.Renderable
 import com.magicleap.magicscript.utils.DataResult
 
@@ -23,6 +24,12 @@ open class RenderableLoadRequest<T : Renderable>(val listener: ((result: DataRes
     var isCancelled = false
         private set
 
+    /**
+     * Node that will display the renderable (optional). It's used to prioritize
+     * loading, so visible nodes closer to the camera are loaded first.
+     */
+    var priorityNode: Node? = null
+
     fun cancel() {
         isCancelled = true
     }
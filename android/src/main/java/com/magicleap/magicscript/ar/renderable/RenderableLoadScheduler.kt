@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.ar.renderable
+
+import com.google.ar.core.Pose
+import com.google.ar.core.TrackingState
+import com.google.ar.sceneform.math.Vector3
+import com.magicleap.magicscript.ar.ArResourcesProvider
+import com.magicleap.magicscript.scene.nodes.base.TransformNode
+import com.magicleap.magicscript.utils.minus
+import kotlin.math.min
+
+/**
+ * Schedules building of renderables requested by all loaders, so only a limited
+ * number of renderables is built at the same time and only a few builds start per frame.
+ *
+ * Pending requests are admitted by priority: visible nodes in front of the camera first,
+ * then the nodes closer to the camera. Cancelled requests are dropped before they start.
+ * Requests are admitted only after AR has been loaded.
+ *
+ * @param maxConcurrentLoads maximum number of renderables that are built at the same time
+ * @param maxStartsPerFrame maximum number of builds that can start in a single frame
+ */
+class RenderableLoadScheduler @JvmOverloads constructor(
+    private val arResourcesProvider: ArResourcesProvider,
+    private val maxConcurrentLoads: Int = DEFAULT_MAX_CONCURRENT_LOADS,
+    private val maxStartsPerFrame: Int = DEFAULT_MAX_STARTS_PER_FRAME
+) : ArResourcesProvider.CameraUpdatedListener {
+
+    companion object {
+        const val DEFAULT_MAX_CONCURRENT_LOADS = 8
+        const val DEFAULT_MAX_STARTS_PER_FRAME = 4
+
+        private const val PRIORITY_IN_VIEW = 0
+        private const val PRIORITY_OUT_OF_VIEW = 1
+        private const val PRIORITY_HIDDEN = 2
+
+        // cosine of the half angle of a cone in front of the camera treated as in view
+        private const val VIEW_CONE_COS = 0.5f
+    }
+
+    /**
+     * Number of renderables that are being built at the moment
+     */
+    var runningLoads = 0
+        private set
+
+    /**
+     * Number of requests waiting to be started
+     */
+    val pendingLoads: Int
+        get() = pendingTasks.size
+
+    private val pendingTasks = mutableListOf<Task>()
+
+    init {
+        arResourcesProvider.addCameraUpdatedListener(this)
+    }
+
+    /**
+     * Enqueues the [request]. The [load] function is invoked when the request is admitted
+     * and it has to call the function passed to it when loading has finished
+     * (successfully or not), so the next request can be started.
+     */
+    fun schedule(request: RenderableLoadRequest<*>, load: (onFinished: () -> Unit) -> Unit) {
+        pendingTasks.add(Task(request, load))
+    }
+
+    /**
+     * Cancels the [request] and removes it from the queue if it hasn't been started yet
+     */
+    fun cancel(request: RenderableLoadRequest<*>) {
+        request.cancel()
+        pendingTasks.removeAll { it.request === request }
+    }
+
+    /**
+     * Unregisters the scheduler from camera updates and drops all pending requests
+     */
+    fun release() {
+        arResourcesProvider.removeCameraUpdatedListener(this)
+        pendingTasks.clear()
+    }
+
+    // called every frame
+    override fun onCameraUpdated(cameraPose: Pose, state: TrackingState) {
+        pendingTasks.removeAll { it.request.isCancelled }
+        if (pendingTasks.isEmpty() || !arResourcesProvider.isArLoaded()) {
+            return
+        }
+
+        var available = min(maxConcurrentLoads - runningLoads, maxStartsPerFrame)
+        if (available <= 0) {
+            return
+        }
+
+        val cameraPosition = Vector3(cameraPose.tx(), cameraPose.ty(), cameraPose.tz())
+        val zAxis = cameraPose.zAxis
+        // camera looks towards negative z axis
+        val cameraForward = Vector3(-zAxis[0], -zAxis[1], -zAxis[2])
+
+        pendingTasks.forEach { it.updatePriority(cameraPosition, cameraForward) }
+        pendingTasks.sortWith(compareBy<Task>({ it.priority }, { it.distance }))
+
+        while (available > 0 && pendingTasks.isNotEmpty()) {
+            start(pendingTasks.removeAt(0))
+            available--
+        }
+    }
+
+    private fun start(task: Task) {
+        runningLoads++
+        var finished = false
+        task.load {
+            if (!finished) {
+                finished = true
+                runningLoads--
+            }
+        }
+    }
+
+    private class Task(
+        val request: RenderableLoadRequest<*>,
+        val load: (onFinished: () -> Unit) -> Unit
+    ) {
+        var priority = PRIORITY_OUT_OF_VIEW
+        var distance = 0f
+
+        fun updatePriority(cameraPosition: Vector3, cameraForward: Vector3) {
+            val node = request.priorityNode
+            if (node == null) {
+                // unknown position, so start it before the out of view nodes
+                priority = PRIORITY_IN_VIEW
+                distance = Float.MAX_VALUE
+                return
+            }
+
+            val direction = node.worldPosition - cameraPosition
+            distance = direction.length()
+
+            val hidden = !node.isEnabled || (node is TransformNode && !node.isVisible)
+            priority = when {
+                hidden -> PRIORITY_HIDDEN
+                Vector3.dot(direction.normalized(), cameraForward) >= VIEW_CONE_COS -> PRIORITY_IN_VIEW
+                else -> PRIORITY_OUT_OF_VIEW
+            }
+        }
+    }
+
+}
@@ -19,44 +19,25 @@ package com.magicleap.magicscript.ar.renderable
 import android.content.Context
 import com.google.ar.sceneform.rendering.ModelRenderable
 import com.magicleap.magicscript.R
-import com.magicleap.magicscript.ar.ArResourcesProvider
 import com.magicleap.magicscript.utils.DataResult
 import com.magicleap.magicscript.utils.logMessage
 
 class VideoRenderableLoaderImpl(
     private val context: Context,
-    private val arResourcesProvider: ArResourcesProvider
-) : VideoRenderableLoader,
-    ArResourcesProvider.ArLoadedListener {
-
-    init {
-        arResourcesProvider.addArLoadedListener(this)
-    }
-
-    private val pendingRequests = mutableListOf<RenderableLoadRequest<ModelRenderable>>()
+    private val loadScheduler: RenderableLoadScheduler
+) : VideoRenderableLoader {
 
     override fun loadRenderable(request: RenderableLoadRequest<ModelRenderable>) {
-        if (arResourcesProvider.isArLoaded()) {
-            load(request)
-        } else {
-            pendingRequests.add(request)
-        }
-    }
-
-    override fun onArLoaded(firstTime: Boolean) {
-        val requestIterator = pendingRequests.iterator()
-        while (requestIterator.hasNext()) {
-            load(requestIterator.next())
-            requestIterator.remove()
+        loadScheduler.schedule(request) { onFinished ->
+            load(request, onFinished)
         }
     }
 
     override fun cancel(request: RenderableLoadRequest<ModelRenderable>) {
-        request.cancel()
-        pendingRequests.remove(request)
+        loadScheduler.cancel(request)
     }
 
-    private fun load(request: RenderableLoadRequest<ModelRenderable>) {
+    private fun load(request: RenderableLoadRequest<ModelRenderable>, onFinished: () -> Unit) {
         ModelRenderable.builder()
             .setSource(context, R.raw.chroma_key_video)
             .build()
@@ -73,6 +54,7 @@ class VideoRenderableLoaderImpl(
                 request.listener.invoke(DataResult.Error(throwable))
                 null
             }
+            .whenComplete { _, _ -> onFinished() }
     }
 
 }
\ No newline at end of file
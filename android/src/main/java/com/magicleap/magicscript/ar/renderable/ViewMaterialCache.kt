@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.ar.renderable
+
+import android.content.Context
+import com.google.ar.sceneform.rendering.Material
+import com.google.ar.sceneform.rendering.ModelRenderable
+import com.magicleap.magicscript.R
+import com.magicleap.magicscript.ar.ArResourcesProvider
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Process-wide cache of the android_view material that is used by all view renderables.
+ *
+ * The android_view model is loaded once per AR session and each renderable receives
+ * its own copy of the model material, so the clipping parameters can still be set per node.
+ *
+ * @param loadViewModel loads the android_view model (its file is a renderable,
+ * not a compiled material, so the material is taken from the loaded model)
+ */
+class ViewMaterialCache(
+    private val arResourcesProvider: ArResourcesProvider,
+    private val loadViewModel: () -> CompletableFuture<ModelRenderable>
+) : ArResourcesProvider.ArLoadedListener {
+
+    private var material: CompletableFuture<Material>? = null
+
+    init {
+        arResourcesProvider.addArLoadedListener(this)
+    }
+
+    /**
+     * Returns a copy of the android_view material (it should be called after AR is loaded)
+     */
+    @Synchronized
+    fun getMaterial(): CompletableFuture<Material> {
+        val cached = material
+        val future = if (cached == null || cached.isCompletedExceptionally) {
+            loadViewModel()
+                .thenApply { it.material }
+                .also { material = it }
+        } else {
+            cached
+        }
+        return future.thenApply { it.makeCopy() }
+    }
+
+    @Synchronized
+    override fun onArLoaded(firstTime: Boolean) {
+        if (!firstTime) {
+            // AR fragment has been recreated, so the material has to be loaded again
+            material = null
+        }
+    }
+
+    fun release() {
+        arResourcesProvider.removeArLoadedListener(this)
+    }
+
+    companion object {
+        private var instance: ViewMaterialCache? = null
+
+        /**
+         * Returns the cache shared by all view renderable loaders
+         * of the [arResourcesProvider] session
+         */
+        @JvmStatic
+        @Synchronized
+        fun getInstance(
+            context: Context,
+            arResourcesProvider: ArResourcesProvider
+        ): ViewMaterialCache {
+            val current = instance
+            if (current != null && current.arResourcesProvider === arResourcesProvider) {
+                return current
+            }
+            current?.release()
+            val appContext = context.applicationContext
+            val loadViewModel = {
+                ModelRenderable.builder()
+                    .setSource(appContext, R.raw.android_view)
+                    .build()
+            }
+            return ViewMaterialCache(arResourcesProvider, loadViewModel).also { instance = it }
+        }
+    }
+
+}
@@ -17,53 +17,49 @@
 package com.magicleap.magicscript.ar.renderable
 
 import android.content.Context
+import com.google.ar.sceneform.math.Vector3
+import com.google.ar.sceneform.rendering.Material
+import com.google.ar.sceneform.rendering.RenderableDefinition
+import com.google.ar.sceneform.rendering.Vertex
 import com.google.ar.sceneform.rendering.ViewRenderable
-import com.magicleap.magicscript.R
 import com.magicleap.magicscript.ar.ArResourcesProvider
 import com.magicleap.magicscript.utils.DataResult
 
 class ViewRenderableLoaderImpl(
     private val context: Context,
-    private val arResourcesProvider: ArResourcesProvider
-) : ViewRenderableLoader,
-    ArResourcesProvider.ArLoadedListener {
+    arResourcesProvider: ArResourcesProvider,
+    private val loadScheduler: RenderableLoadScheduler
+) : ViewRenderableLoader {
 
-    init {
-        arResourcesProvider.addArLoadedListener(this)
-    }
-
-    private val pendingRequests = mutableListOf<ViewRenderableLoader.LoadRequest>()
+    private val materialCache = ViewMaterialCache.getInstance(context, arResourcesProvider)
 
     override fun loadRenderable(request: ViewRenderableLoader.LoadRequest) {
-        if (arResourcesProvider.isArLoaded()) {
-            load(request)
-        } else {
-            pendingRequests.add(request)
+        loadScheduler.schedule(request) { onFinished ->
+            load(request, onFinished)
         }
     }
 
-    override fun onArLoaded(firstTime: Boolean) {
-        val requestIterator = pendingRequests.iterator()
-        while (requestIterator.hasNext()) {
-            load(requestIterator.next())
-            requestIterator.remove()
-        }
+    override fun cancel(request: ViewRenderableLoader.LoadRequest) {
+        loadScheduler.cancel(request)
     }
 
-    private fun load(request: ViewRenderableLoader.LoadRequest) {
-        val builder = ViewRenderable
-            .builder()
-            .setSource(context, R.raw.android_view) // using custom material to disable back side
-            .setView(context, request.view)
-
+    private fun load(request: ViewRenderableLoader.LoadRequest, onFinished: () -> Unit) {
         val horizontalAlignment =
             ViewRenderable.HorizontalAlignment.valueOf(request.horizontalAlignment.name)
         val verticalAlignment =
             ViewRenderable.VerticalAlignment.valueOf(request.verticalAlignment.name)
-        builder.setHorizontalAlignment(horizontalAlignment)
-        builder.setVerticalAlignment(verticalAlignment)
 
-        builder.build()
+        // using custom material to disable back side (copy of the cached one)
+        materialCache.getMaterial()
+            .thenCompose { material ->
+                ViewRenderable
+                    .builder()
+                    .setSource(createQuadDefinition(material))
+                    .setView(context, request.view)
+                    .setHorizontalAlignment(horizontalAlignment)
+                    .setVerticalAlignment(verticalAlignment)
+                    .build()
+            }
             .thenAccept { renderable ->
                 if (!request.isCancelled) {
                     renderable.isShadowReceiver = false
@@ -75,11 +71,45 @@ class ViewRenderableLoaderImpl(
                 request.listener.invoke(DataResult.Error(throwable))
                 null
             }
+            .whenComplete { _, _ -> onFinished() }
     }
 
-    override fun cancel(request: ViewRenderableLoader.LoadRequest) {
-        request.cancel()
-        pendingRequests.remove(request)
+    companion object {
+        private val QUAD_NORMAL = Vector3(0f, 0f, 1f)
+
+        private val QUAD_VERTICES = listOf(
+            createVertex(-0.5f, 0f, 0f, 0f),
+            createVertex(0.5f, 0f, 1f, 0f),
+            createVertex(-0.5f, 1f, 0f, 1f),
+            createVertex(0.5f, 1f, 1f, 1f)
+        )
+
+        private val QUAD_INDICES = listOf(0, 1, 3, 0, 3, 2)
+
+        /**
+         * Creates the same geometry as android_view.obj (from /sources folder):
+         * a 1 x 1 quad with origin at bottom-center
+         */
+        @JvmStatic
+        fun createQuadDefinition(material: Material): RenderableDefinition {
+            val submesh = RenderableDefinition.Submesh.builder()
+                .setTriangleIndices(QUAD_INDICES)
+                .setMaterial(material)
+                .build()
+
+            return RenderableDefinition.builder()
+                .setVertices(QUAD_VERTICES)
+                .setSubmeshes(listOf(submesh))
+                .build()
+        }
+
+        private fun createVertex(x: Float, y: Float, u: Float, v: Float): Vertex {
+            return Vertex.builder()
+                .setPosition(Vector3(x, y, 0f))
+                .setNormal(QUAD_NORMAL)
+                .setUvCoordinate(Vertex.UvCoordinate(u, v))
+                .build()
+        }
     }
 
-}
\ No newline at end of file
+}
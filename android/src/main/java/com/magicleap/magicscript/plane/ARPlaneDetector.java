@@ -46,12 +46,13 @@ public class ARPlaneDetector extends ReactContextBaseJavaModule implements Lifec
 
     @ReactMethod
     public void startDetecting(final ReadableMap configuration) {
-        bridge.startDetecting(configuration);
+        // the bridge state is used by the plane updates on the main thread
+        mainHandler.post(() -> this.bridge.startDetecting(configuration));
     }
 
     @ReactMethod
     public void stopDetecting() {
-        bridge.stopDetecting();
+        mainHandler.post(this.bridge::stopDetecting);
     }
 
     @ReactMethod
@@ -21,22 +21,52 @@ import com.facebook.react.bridge.ReadableMap
 import com.facebook.react.bridge.WritableMap
 import com.google.ar.core.HitResult
 import com.google.ar.core.Plane
+import com.google.ar.core.Pose
+import com.google.ar.core.TrackingState
 import com.magicleap.magicscript.utils.NativeReactObjectsProvider
 import com.magicleap.magicscript.utils.ReactObjectsProvider
+import java.nio.FloatBuffer
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
 import kotlin.math.abs
 
 class ARPlaneDetectorBridge private constructor() {
 
     var objectsProvider: ReactObjectsProvider = NativeReactObjectsProvider.INSTANCE
 
+    /**
+     * Executor that converts the planes to React objects and sends the events
+     */
+    var eventsExecutor: Executor = Executors.newSingleThreadExecutor()
+
+    @Volatile
     private var onUpdateListener: OnPlanesUpdated? = null
+    @Volatile
     private var onAddedListener: OnPlanesAdded? = null
+    @Volatile
     private var onRemovedListener: OnPlanesRemoved? = null
     private var onTappedListener: OnPlaneTapped? = null
-    private var lastPlanes: List<Plane>? = null
+    @Volatile
     private var isDetecting: Boolean = false
     private var detectionConfiguration: List<Plane.Type>? = null
 
+    // planes reported to JS (ARCore planes are equal when they are the same trackable)
+    // with their extents (x, z) sent in the last event
+    private val trackedPlanes = LinkedHashMap<Plane, FloatArray>()
+
+    // planes updated since the last dispatch of the events
+    private val pendingPlanes = LinkedHashSet<Plane>()
+
+    // minimum time between dispatches of the events (0 means every frame)
+    private var minUpdateIntervalNanos = 0L
+    private var lastDispatchTimestamp = 0L
+
+    // when true, vertices are sent as a flat array of xyz triples with the center rotation
+    private var compactPayload = false
+
+    // minimum change of a plane extent (in meters) for an update event to be sent
+    private var minExtentChange = 0f
+
     companion object {
         val INSTANCE = ARPlaneDetectorBridge()
 
@@ -49,30 +79,14 @@ class ARPlaneDetectorBridge private constructor() {
         private const val PLANE_TYPE = "planeType"
         private const val PLANE_TYPE_VERTICAL = "vertical"
         private const val PLANE_TYPE_HORIZONTAL = "horizontal"
+        private const val ROTATION = "rotation"
+        private const val MAX_UPDATE_RATE = "maxUpdateRate" // updates per second
+        private const val COMPACT_PAYLOAD = "compactPayload"
+        private const val MIN_EXTENT_CHANGE = "minExtentChange" // in meters
     }
 
     fun mapPlanesToWritableMap(plane: Plane): WritableMap {
-        val planeMap = objectsProvider.createMap()
-        val vertices = objectsProvider.createArray()
-        val polygonList = plane.polygon.array().toList()
-        val centerPose = plane.centerPose
-        polygonList.chunked(2).forEach {
-            val point = centerPose.transformPoint(floatArrayOf(it[0], 0f, it[1]))
-            vertices.pushArray(objectsProvider.createArray().apply {
-                pushDouble(point[0].toDouble())
-                pushDouble(point[1].toDouble())
-                pushDouble(point[2].toDouble())
-            })
-        }
-        planeMap.putString(TYPE, plane.type.name)
-        planeMap.putArray(VERTICES, vertices)
-        planeMap.putArray(CENTER, objectsProvider.createArray().apply {
-            pushDouble(plane.centerPose.tx().toDouble())
-            pushDouble(plane.centerPose.ty().toDouble())
-            pushDouble(plane.centerPose.tz().toDouble())
-        })
-        planeMap.putString(ID, abs(plane.hashCode()).toString())
-        return planeMap
+        return PlaneSnapshot(plane).toWritableMap()
     }
 
     private fun mapToError(errorMessage: String): WritableMap {
@@ -81,21 +95,49 @@ class ARPlaneDetectorBridge private constructor() {
         }
     }
 
-    fun onPlaneUpdate(planes: List<Plane>) {
-        if (planes.isNotEmpty()) {
-            val filteredPlanes = planes.filter { detectionConfiguration?.contains(it.type) ?: true }
-            if (lastPlanes == null) {
-                lastPlanes = filteredPlanes
-                filteredPlanes.forEach {
-                    onAddedListener?.invoke(mapPlanesToWritableMap(it))
+    /**
+     * Should be called for every AR frame with the planes updated in that frame
+     * (see [com.google.ar.core.Frame.getUpdatedTrackables]).
+     * The events are sent at most at the rate configured in [startDetecting].
+     *
+     * @param timestamp timestamp of the frame in nanoseconds
+     */
+    fun onPlaneUpdate(updatedPlanes: Collection<Plane>, timestamp: Long) {
+        pendingPlanes.addAll(updatedPlanes)
+        if (pendingPlanes.isEmpty() || timestamp - lastDispatchTimestamp < minUpdateIntervalNanos) {
+            return
+        }
+        lastDispatchTimestamp = timestamp
+
+        val added = mutableListOf<PlaneSnapshot>()
+        val updated = mutableListOf<PlaneSnapshot>()
+        val removed = mutableListOf<PlaneSnapshot>()
+        for (plane in pendingPlanes) {
+            val sentExtents = trackedPlanes[plane]
+            if (plane.trackingState == TrackingState.STOPPED || plane.subsumedBy != null) {
+                if (sentExtents != null) {
+                    trackedPlanes.remove(plane)
+                    removed.add(PlaneSnapshot(plane))
+                }
+            } else if (sentExtents != null) {
+                if (updateExtents(plane, sentExtents)) {
+                    updated.add(PlaneSnapshot(plane))
                 }
-            } else if (lastPlanes != null && lastPlanes != filteredPlanes) {
-                filterAddedPlanes(filteredPlanes)
-                filterRemovedPlanes(filteredPlanes)
-                filterUpdatedPlanes(filteredPlanes)
-                lastPlanes = filteredPlanes
+            } else if (detectionConfiguration?.contains(plane.type) != false) {
+                trackedPlanes[plane] = floatArrayOf(plane.extentX, plane.extentZ)
+                added.add(PlaneSnapshot(plane))
             }
         }
+        pendingPlanes.clear()
+
+        if (added.isEmpty() && updated.isEmpty() && removed.isEmpty()) {
+            return
+        }
+        eventsExecutor.execute {
+            added.forEach { onAddedListener?.invoke(it.toWritableMap()) }
+            removed.forEach { onRemovedListener?.invoke(it.toWritableMap()) }
+            updated.forEach { onUpdateListener?.invoke(it.toWritableMap()) }
+        }
     }
 
     fun onPlaneTapped(plane: Plane, hitTest: HitResult) {
@@ -133,11 +175,11 @@ class ARPlaneDetectorBridge private constructor() {
                 mapToError("You have to enable planes detection with startDetecting method!"),
                 null
             )
-        } else if (lastPlanes.isNullOrEmpty()) {
+        } else if (trackedPlanes.isEmpty()) {
             callback.invoke(mapToError("The are no planes detected yet"), null)
         } else {
             val planes = objectsProvider.createArray()
-            lastPlanes!!
+            trackedPlanes.keys
                 .filter { type.contains(it.type) }
                 .forEach { planes.pushMap(mapPlanesToWritableMap(it)) }
                 .also { callback.invoke(null, planes) }
@@ -179,37 +221,114 @@ class ARPlaneDetectorBridge private constructor() {
         this.onUpdateListener = null
         this.onAddedListener = null
         this.onRemovedListener = null
-        this.lastPlanes = null
+        this.trackedPlanes.clear()
+        this.pendingPlanes.clear()
+        this.minUpdateIntervalNanos = 0L
+        this.lastDispatchTimestamp = 0L
+        this.compactPayload = false
+        this.minExtentChange = 0f
     }
 
-    private fun filterAddedPlanes(planes: List<Plane>) {
-        lastPlanes?.let {
-            planes.minus(it).forEach {
-                onAddedListener?.invoke(mapPlanesToWritableMap(it))
-            }
+    /**
+     * Should be called on the main thread, the same as [onPlaneUpdate]
+     */
+    fun startDetecting(configuration: ReadableMap) {
+        detectionConfiguration = getPlaneTypes(configuration)
+        minUpdateIntervalNanos = getMinUpdateInterval(configuration)
+        compactPayload = configuration.hasKey(COMPACT_PAYLOAD)
+                && !configuration.isNull(COMPACT_PAYLOAD)
+                && configuration.getBoolean(COMPACT_PAYLOAD)
+        minExtentChange = if (configuration.hasKey(MIN_EXTENT_CHANGE)
+            && !configuration.isNull(MIN_EXTENT_CHANGE)
+        ) {
+            configuration.getDouble(MIN_EXTENT_CHANGE).toFloat()
+        } else {
+            0f
         }
+        isDetecting = true
     }
 
-    private fun filterRemovedPlanes(planes: List<Plane>) {
-        lastPlanes?.let {
-            it.minus(planes).forEach {
-                onRemovedListener?.invoke(mapPlanesToWritableMap(it))
-            }
-        }
+    /**
+     * Should be called on the main thread, the same as [onPlaneUpdate]
+     */
+    fun stopDetecting() {
+        isDetecting = false
+        pendingPlanes.clear()
     }
 
-    private fun filterUpdatedPlanes(planes: List<Plane>) {
-        lastPlanes?.filter { planes.contains(it) }?.forEach {
-            onUpdateListener?.invoke(mapPlanesToWritableMap(it))
+    /**
+     * Returns true if an extent of the [plane] has changed by more than [minExtentChange]
+     * since the last event (then [sentExtents] are updated)
+     */
+    private fun updateExtents(plane: Plane, sentExtents: FloatArray): Boolean {
+        val extentX = plane.extentX
+        val extentZ = plane.extentZ
+        if (abs(extentX - sentExtents[0]) < minExtentChange
+            && abs(extentZ - sentExtents[1]) < minExtentChange
+        ) {
+            return false
         }
+        sentExtents[0] = extentX
+        sentExtents[1] = extentZ
+        return true
     }
 
-    fun startDetecting(configuration: ReadableMap) {
-        detectionConfiguration = getPlaneTypes(configuration)
-        isDetecting = true
+    private fun getMinUpdateInterval(configuration: ReadableMap): Long {
+        if (!configuration.hasKey(MAX_UPDATE_RATE) || configuration.isNull(MAX_UPDATE_RATE)) {
+            return 0L
+        }
+        val maxRate = configuration.getDouble(MAX_UPDATE_RATE)
+        return if (maxRate > 0) (1_000_000_000 / maxRate).toLong() else 0L
     }
 
-    fun stopDetecting() {
-        isDetecting = false
+    /**
+     * Plane data read on the main thread, so it can be converted
+     * to React objects on another thread. [Pose] and the polygon
+     * returned by ARCore are immutable copies.
+     */
+    private inner class PlaneSnapshot(plane: Plane) {
+        private val id = abs(plane.hashCode()).toString()
+        private val type = plane.type
+        private val centerPose: Pose = plane.centerPose
+        private val polygon: FloatBuffer = plane.polygon
+        private val compact = compactPayload
+
+        fun toWritableMap(): WritableMap {
+            val planeMap = objectsProvider.createMap()
+            val vertices = objectsProvider.createArray()
+            for (i in 0 until polygon.limit() / 2) {
+                val point = floatArrayOf(polygon.get(2 * i), 0f, polygon.get(2 * i + 1))
+                val transformed = centerPose.transformPoint(point)
+                if (compact) {
+                    // flat array: [x0, y0, z0, x1, y1, z1, ...]
+                    vertices.pushDouble(transformed[0].toDouble())
+                    vertices.pushDouble(transformed[1].toDouble())
+                    vertices.pushDouble(transformed[2].toDouble())
+                } else {
+                    vertices.pushArray(objectsProvider.createArray().apply {
+                        pushDouble(transformed[0].toDouble())
+                        pushDouble(transformed[1].toDouble())
+                        pushDouble(transformed[2].toDouble())
+                    })
+                }
+            }
+            planeMap.putString(TYPE, type.name)
+            planeMap.putArray(VERTICES, vertices)
+            planeMap.putArray(CENTER, objectsProvider.createArray().apply {
+                pushDouble(centerPose.tx().toDouble())
+                pushDouble(centerPose.ty().toDouble())
+                pushDouble(centerPose.tz().toDouble())
+            })
+            if (compact) {
+                planeMap.putArray(ROTATION, objectsProvider.createArray().apply {
+                    pushDouble(centerPose.qx().toDouble())
+                    pushDouble(centerPose.qy().toDouble())
+                    pushDouble(centerPose.qz().toDouble())
+                    pushDouble(centerPose.qw().toDouble())
+                })
+            }
+            planeMap.putString(ID, id)
+            return planeMap
+        }
     }
 }
\ No newline at end of file
@@ -31,6 +31,21 @@ interface NodesManager {
 
     fun updateNode(nodeId: String, properties: ReadableMap): Boolean
 
+    /**
+     * Buffers the [properties] update, so it's applied on the next [applyPendingUpdates].
+     * Updates of the same node are merged (the latest value of a property wins),
+     * so the node is updated only once per frame.
+     * Can be called from any thread.
+     */
+    fun enqueueUpdate(nodeId: String, properties: ReadableMap)
+
+    /**
+     * Applies the buffered updates (should be called once per frame on the main thread)
+     *
+     * @return true if some updates are still pending (their nodes are not registered yet)
+     */
+    fun applyPendingUpdates(): Boolean
+
     fun removeNode(nodeId: String)
 
     fun clear()
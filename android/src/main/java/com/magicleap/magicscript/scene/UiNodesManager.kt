@@ -18,19 +18,39 @@ package com.magicleap.magicscript.scene
 
 import android.os.Handler
 import android.os.Looper
+import com.facebook.react.bridge.JavaOnlyArray
+import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.bridge.LifecycleEventListener
+import com.facebook.react.bridge.ReadableArray
 import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.ReadableType
+import com.magicleap.magicscript.scene.nodes.LineNode
 import com.magicleap.magicscript.scene.nodes.base.ReactNode
 import com.magicleap.magicscript.utils.logMessage
+import java.util.*
 
 /**
  * It manages nodes registration and attaching them to scene
  */
 class UiNodesManager : NodesManager, LifecycleEventListener {
 
+    companion object {
+        // number of frames to wait for a node before its pending update is dropped
+        private const val MAX_PENDING_FRAMES = 30
+    }
+
     private var reactScene: ReactScene? = null
     private val nodesById = HashMap<String, ReactNode>()
 
+    // reverse index, so removing a subtree does not have to scan the whole registry
+    private val idsByNode = IdentityHashMap<ReactNode, String>()
+
+    // merged properties waiting to be applied on the next frame
+    private var pendingUpdates = LinkedHashMap<String, JavaOnlyMap>()
+
+    // number of frames the pending updates have been waiting for their nodes
+    private val pendingFrames = HashMap<String, Int>()
+
     @Synchronized
     override fun findNodeWithId(nodeId: String): ReactNode? {
         return nodesById[nodeId]
@@ -39,7 +59,11 @@ class UiNodesManager : NodesManager, LifecycleEventListener {
     @Synchronized
     override fun registerNode(node: ReactNode, nodeId: String) {
         // node.name = nodeId
-        nodesById[nodeId] = node
+        val previousNode = nodesById.put(nodeId, node)
+        if (previousNode != null && previousNode !== node) {
+            idsByNode.remove(previousNode)
+        }
+        idsByNode[node] = nodeId
         logMessage("register node id= $nodeId, type=${node.javaClass.simpleName}")
 
         if (node is ReactScene) {
@@ -80,10 +104,48 @@ class UiNodesManager : NodesManager, LifecycleEventListener {
             logMessage("cannot update node: not found", warn = true)
             return false
         }
-        node.update(properties)
+        // apply buffered properties together with the new ones, so the older values
+        // won't override the new ones on the next frame
+        val pending = pendingUpdates.remove(nodeId)
+        pendingFrames.remove(nodeId)
+        if (pending != null) {
+            mergeUpdate(pending, properties)
+            node.update(pending)
+        } else {
+            node.update(properties)
+        }
         return true
     }
 
+    @Synchronized
+    override fun enqueueUpdate(nodeId: String, properties: ReadableMap) {
+        mergeUpdate(pendingUpdates.getOrPut(nodeId) { JavaOnlyMap() }, properties)
+    }
+
+    @Synchronized
+    override fun applyPendingUpdates(): Boolean {
+        if (pendingUpdates.isEmpty()) {
+            return false
+        }
+        val updates = pendingUpdates
+        pendingUpdates = LinkedHashMap()
+
+        updates.forEach { (nodeId, properties) ->
+            val node = nodesById[nodeId]
+            val frames = (pendingFrames.remove(nodeId) ?: 0) + 1
+            if (node != null) {
+                node.update(properties)
+            } else if (frames >= MAX_PENDING_FRAMES) {
+                logMessage("dropping update of node $nodeId: not found", warn = true)
+            } else if (!pendingUpdates.containsKey(nodeId)) {
+                // node may not be created yet, so try again on the next frame
+                pendingUpdates[nodeId] = properties
+                pendingFrames[nodeId] = frames
+            }
+        }
+        return pendingUpdates.isNotEmpty()
+    }
+
     @Synchronized
     override fun removeNode(nodeId: String) {
         val node = nodesById[nodeId]
@@ -106,6 +168,9 @@ class UiNodesManager : NodesManager, LifecycleEventListener {
                 node.onDestroy()
             }
             nodesById.clear()
+            idsByNode.clear()
+            pendingUpdates.clear()
+            pendingFrames.clear()
         }
     }
 
@@ -127,14 +192,92 @@ class UiNodesManager : NodesManager, LifecycleEventListener {
             removeFromMap(child)
         }
 
-        val key = nodesById.entries.firstOrNull { it.value == node }?.key
+        val key = idsByNode.remove(node)
         if (key != null) {
             nodesById.remove(key)
+            pendingUpdates.remove(key)
+            pendingFrames.remove(key)
         }
 
         node.onDestroy()
     }
 
+    /**
+     * Merges [properties] into the [pending] ones. Newer values override the older ones,
+     * except the points appended to a line, which are accumulated (or dropped when
+     * all points of the line are replaced)
+     */
+    private fun mergeUpdate(pending: JavaOnlyMap, properties: ReadableMap) {
+        val appendKey = LineNode.PROP_APPEND_POINTS
+        val appended = if (pending.hasKey(appendKey) && !pending.isNull(appendKey)) {
+            pending.getArray(appendKey)
+        } else {
+            null
+        }
+        // JavaOnlyMap.merge accepts only another JavaOnlyMap, while the bridge
+        // passes native maps, so the entries are copied one by one
+        copyEntries(properties, pending)
+
+        if (appended == null) {
+            return
+        }
+        if (properties.hasKey(LineNode.PROP_POINTS)) {
+            if (!properties.hasKey(appendKey)) {
+                pending.putNull(appendKey)
+            }
+        } else if (properties.hasKey(appendKey) && !properties.isNull(appendKey)) {
+            val appendedNow = properties.getArray(appendKey)!!
+            val points = JavaOnlyArray()
+            copyItems(appended, points)
+            copyItems(appendedNow, points)
+            pending.putArray(appendKey, points)
+        }
+    }
+
+    private fun copyEntries(source: ReadableMap, target: JavaOnlyMap) {
+        val iterator = source.keySetIterator()
+        while (iterator.hasNextKey()) {
+            val key = iterator.nextKey()
+            when (source.getType(key)) {
+                ReadableType.Null -> target.putNull(key)
+                ReadableType.Boolean -> target.putBoolean(key, source.getBoolean(key))
+                ReadableType.Number -> target.putDouble(key, source.getDouble(key))
+                ReadableType.String -> target.putString(key, source.getString(key))
+                ReadableType.Map -> {
+                    val map = JavaOnlyMap()
+                    copyEntries(source.getMap(key)!!, map)
+                    target.putMap(key, map)
+                }
+                ReadableType.Array -> {
+                    val array = JavaOnlyArray()
+                    copyItems(source.getArray(key)!!, array)
+                    target.putArray(key, array)
+                }
+            }
+        }
+    }
+
+    private fun copyItems(source: ReadableArray, target: JavaOnlyArray) {
+        for (i in 0 until source.size()) {
+            when (source.getType(i)) {
+                ReadableType.Null -> target.pushNull()
+                ReadableType.Boolean -> target.pushBoolean(source.getBoolean(i))
+                ReadableType.Number -> target.pushDouble(source.getDouble(i))
+                ReadableType.String -> target.pushString(source.getString(i))
+                ReadableType.Map -> {
+                    val map = JavaOnlyMap()
+                    copyEntries(source.getMap(i)!!, map)
+                    target.pushMap(map)
+                }
+                ReadableType.Array -> {
+                    val array = JavaOnlyArray()
+                    copyItems(source.getArray(i)!!, array)
+                    target.pushArray(array)
+                }
+            }
+        }
+    }
+
     private fun detachNode(node: ReactNode) {
         val parent = node.reactParent
         parent?.removeContent(node)
@@ -18,64 +18,95 @@ package com.magicleap.magicscript.scene.nodes
 
 import android.os.Bundle
 import com.facebook.react.bridge.ReadableMap
-import com.google.ar.sceneform.Node
 import com.google.ar.sceneform.collision.Ray
 import com.google.ar.sceneform.collision.RayHit
-import com.google.ar.sceneform.math.Quaternion
 import com.google.ar.sceneform.math.Vector3
 import com.google.ar.sceneform.rendering.Color
-import com.google.ar.sceneform.rendering.Renderable
+import com.google.ar.sceneform.rendering.ModelRenderable
 import com.magicleap.magicscript.ar.BoundingBox
-import com.magicleap.magicscript.ar.renderable.CubeRenderableBuilder
+import com.magicleap.magicscript.ar.PolylineMesh
+import com.magicleap.magicscript.ar.renderable.LineRenderableBuilder
 import com.magicleap.magicscript.scene.nodes.base.TransformNode
 import com.magicleap.magicscript.scene.nodes.props.AABB
 import com.magicleap.magicscript.utils.*
+import java.util.ArrayDeque
 
 // Node that represents a chain of lines
 class LineNode(
     initProps: ReadableMap,
-    private val cubeRenderableBuilder: CubeRenderableBuilder
+    private val lineRenderableBuilder: LineRenderableBuilder
 ) : TransformNode(initProps, useContentNodeAlignment = false) {
 
     companion object {
         // properties
         const val PROP_POINTS = "points"
         const val PROP_COLOR = "color"
+        const val PROP_APPEND_POINTS = "appendPoints"
+        const val PROP_MAX_POINTS = "maxPoints"
 
         private const val LINE_THICKNESS = 0.002f // in meters
     }
 
-    override var clipBounds: AABB?
-        get() = super.clipBounds
-        set(value) {
-            super.clipBounds = value
-            value?.let { applyClipBounds(it) }
-        }
-
     private val colorDefault = Color(1f, 1f, 1f)
-    private var baseCube: Renderable? = null // reused by all line segments
     private var linesBounding = AABB()
     private var clipBox = BoundingBox(
         Vector3(Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE),
         Vector3.zero()
     )
 
-    private val pointsList = mutableListOf<Vector3>()
-    private var cubeLoadRequest: CubeRenderableBuilder.LoadRequest? = null
+    // clip bounds in the local space of the lines that [clipBox] was created from
+    private var localClipBounds: AABB? = null
+
+    private val points = ArrayDeque<Vector3>()
+
+    // max number of points to keep, when exceeded the oldest points are dropped
+    // (0 means no limit)
+    private var maxPoints = 0
+
+    // all segments are drawn by a single renderable, segment i is at slot
+    // (droppedSegments + i) % (maxPoints - 1), so it can be replaced in place
+    private val mesh = PolylineMesh(LINE_THICKNESS)
+    private var droppedSegments = 0
+
+    // clipped segments by mesh slot (null if outside of the clip bounds)
+    private val segmentStarts = ArrayList<Vector3?>()
+    private val segmentEnds = ArrayList<Vector3?>()
+    private var hasLinesBounding = false
+    private var segmentsDroppedSinceBounding = 0
+    private var lineRenderable: ModelRenderable? = null
+    private var lineLoadRequest: LineRenderableBuilder.LoadRequest? = null
 
     override fun build() {
         super.build()
-        val androidColor = properties.readColor(PROP_COLOR)
-        val color = if (androidColor != null) Color(androidColor) else colorDefault
-        loadBaseCube(color)
+        loadLineRenderable()
     }
 
     override fun applyProperties(props: Bundle) {
         super.applyProperties(props)
 
-        if (props.containsKey(PROP_POINTS) || props.containsKey(PROP_COLOR)) {
+        if (props.containsKey(PROP_POINTS)) {
+            points.clear()
+            points.addAll(props.readVectorsList(PROP_POINTS))
+        }
+
+        val maxPointsChanged = setMaxPoints(props)
+        if (props.containsKey(PROP_POINTS) || maxPointsChanged) {
+            dropOldestPoints()
             drawLines(clipBox)
         }
+
+        if (props.containsKey(PROP_APPEND_POINTS)) {
+            appendPoints(props.readVectorsList(PROP_APPEND_POINTS))
+            // the points are already applied, so we don't keep them
+            properties.remove(PROP_APPEND_POINTS)
+        }
+
+        if (props.containsKey(PROP_COLOR) && updatingProperties) {
+            // material has to be changed
+            cancelLineLoadRequest()
+            lineRenderable = null
+            loadLineRenderable()
+        }
     }
 
     override fun getContentBounding(): AABB {
@@ -90,50 +121,130 @@ class LineNode(
     }
 
     override fun onVisibilityChanged(visibility: Boolean) {
-        if (visibility) {
-            contentNode.children.forEach {
-                it.renderable = baseCube
-            }
-        } else {
-            contentNode.children.forEach {
-                it.renderable = null
-            }
-        }
+        showLineRenderable()
     }
 
     override fun onDestroy() {
         super.onDestroy()
-        cancelCubeLoadRequest()
+        cancelLineLoadRequest()
+    }
+
+    override fun onClipBoundsChanged() {
+        clipBounds?.let { applyClipBounds(it) }
+    }
+
+    override fun onTransformedLocally() {
+        super.onTransformedLocally()
+        clipBounds?.let { applyClipBounds(it) }
     }
 
     private fun applyClipBounds(clipBounds: AABB) {
         val localBounds = clipBounds.translated(-getContentPosition())
+        if (localClipBounds?.equalInexact(localBounds) == true) {
+            // the lines are already clipped with these bounds
+            return
+        }
+        localClipBounds = localBounds
         val center = (localBounds.min + localBounds.max) / 2f
         clipBox = BoundingBox(localBounds.size(), center)
 
         drawLines(clipBox)
     }
 
+    private fun setMaxPoints(props: Bundle): Boolean {
+        if (!props.containsKey(PROP_MAX_POINTS)) {
+            return false
+        }
+        val value = props.read<Int>(PROP_MAX_POINTS)?.coerceAtLeast(0) ?: 0
+        if (value == maxPoints) {
+            return false
+        }
+        maxPoints = value
+        return true
+    }
+
+    private fun dropOldestPoints() {
+        if (maxPoints > 0) {
+            while (points.size > maxPoints) {
+                points.removeFirst()
+            }
+        }
+    }
+
     private fun drawLines(clipBox: BoundingBox) {
-        // clear old lines in case of points list update
-        clearLines()
-
-        // draw each line segment
-        val points = properties.readVectorsList(PROP_POINTS)
-
-        var idx = 0
-        while (idx + 1 < points.size) {
-            val clipped = clipLineSegment(points[idx], points[idx + 1], clipBox)
-            if (clipped != null) {
-                val (start, end) = clipped
-                drawLineSegment(start, end)
-                this.pointsList.add(start)
-                this.pointsList.add(end)
+        droppedSegments = 0
+        segmentStarts.clear()
+        segmentEnds.clear()
+
+        // clip each line segment and write it to the mesh
+        var slot = 0
+        var previous: Vector3? = null
+        for (point in points) {
+            if (previous != null) {
+                drawLineSegment(slot, previous, point, clipBox)
+                slot++
             }
-            idx++
+            previous = point
         }
+        mesh.truncate(slot)
 
         updateLinesBounding()
+        updateLineRenderable()
+    }
+
+    /**
+     * Adds segments for the [newPoints] only. When [maxPoints] is exceeded,
+     * segments of the oldest points are replaced in the mesh by the new ones.
+     */
+    private fun appendPoints(newPoints: List<Vector3>) {
+        if (newPoints.isEmpty()) {
+            return
+        }
+        val slotsCount = if (maxPoints > 0) maxPoints - 1 else Int.MAX_VALUE
+
+        for (point in newPoints) {
+            val previous = points.peekLast()
+            points.addLast(point)
+            if (previous != null && slotsCount > 0) {
+                val segment = droppedSegments + points.size - 2
+                val slot = segment % slotsCount
+                drawLineSegment(slot, previous, point, clipBox)
+                val start = segmentStarts[slot]
+                val end = segmentEnds[slot]
+                if (start != null && end != null) {
+                    extendLinesBounding(start, end)
+                }
+            }
+            if (maxPoints > 0 && points.size > maxPoints) {
+                points.removeFirst()
+                droppedSegments++
+                segmentsDroppedSinceBounding++
+            }
+        }
+
+        // bounding only grows when appending, so it's recalculated after
+        // all segments have been replaced (amortized constant cost per point)
+        if (segmentsDroppedSinceBounding >= slotsCount) {
+            updateLinesBounding()
+        }
+        updateLineRenderable()
+    }
+
+    private fun drawLineSegment(slot: Int, start: Vector3, end: Vector3, clipBox: BoundingBox) {
+        val clipped = clipLineSegment(start, end, clipBox)
+        if (clipped != null) {
+            mesh.setSegment(slot, clipped.first, clipped.second)
+        } else {
+            mesh.clearSegment(slot, start)
+        }
+
+        if (slot < segmentStarts.size) {
+            segmentStarts[slot] = clipped?.first
+            segmentEnds[slot] = clipped?.second
+        } else {
+            segmentStarts.add(clipped?.first)
+            segmentEnds.add(clipped?.second)
+        }
     }
 
     private fun clipLineSegment(start: Vector3, end: Vector3, clipBox: BoundingBox)
@@ -165,56 +276,68 @@ class LineNode(
         return Pair(startClipped, endClipped)
     }
 
-    private fun drawLineSegment(start: Vector3, end: Vector3) {
-        val lineSegment = Node()
-        val diff = Vector3.subtract(start, end)
-        val direction = diff.normalized()
-        val rotation = Quaternion.lookRotation(direction, Vector3.up())
-        val scaleZ = diff.length() / LINE_THICKNESS
-
-        contentNode.addChild(lineSegment)
-
-        if (isVisible && baseCube != null) {
-            lineSegment.renderable = baseCube
+    /**
+     * Rewrites the vertex data of the loaded renderable with the current mesh,
+     * or loads the renderable if it has not been loaded yet
+     */
+    private fun updateLineRenderable() {
+        val renderable = lineRenderable
+        if (renderable == null) {
+            loadLineRenderable()
+            return
+        }
+        if (!mesh.isEmpty) {
+            renderable.updateFromDefinition(mesh.toDefinition(renderable.material))
         }
+        showLineRenderable()
+    }
 
-        lineSegment.localScale = Vector3(1f, 1f, scaleZ)
-        lineSegment.localPosition = Vector3.add(start, end).scaled(0.5f)
-        lineSegment.localRotation = rotation
+    private fun showLineRenderable() {
+        contentNode.renderable = if (isVisible && !mesh.isEmpty) lineRenderable else null
     }
 
-    private fun loadBaseCube(color: Color) {
-        val cubeSize = Vector3(LINE_THICKNESS, LINE_THICKNESS, LINE_THICKNESS)
-        cubeLoadRequest =
-            CubeRenderableBuilder.LoadRequest(cubeSize, Vector3.zero(), color) { result ->
-                if (result is DataResult.Success) {
-                    baseCube = result.data
-                    if (isVisible) {
-                        contentNode.children.forEach {
-                            it.renderable = baseCube
-                        }
-                    }
-                }
-            }.also {
-                cubeRenderableBuilder.buildRenderable(it)
+    private fun loadLineRenderable() {
+        if (lineLoadRequest != null || mesh.isEmpty) {
+            // the pending request will read the current mesh
+            return
+        }
+
+        val androidColor = properties.readColor(PROP_COLOR)
+        val color = if (androidColor != null) Color(androidColor) else colorDefault
+        lineLoadRequest = LineRenderableBuilder.LoadRequest(mesh, color) { result ->
+            lineLoadRequest = null
+            if (result is DataResult.Success) {
+                lineRenderable = result.data
+                // the mesh may have changed while loading
+                updateLineRenderable()
             }
+        }.also {
+            it.priorityNode = this
+            lineRenderableBuilder.buildRenderable(it)
+        }
     }
 
     private fun updateLinesBounding() {
-        linesBounding = Utils.findMinimumBounding(pointsList)
+        val visiblePoints = segmentStarts.filterNotNull() + segmentEnds.filterNotNull()
+        linesBounding = Utils.findMinimumBounding(visiblePoints)
+        hasLinesBounding = visiblePoints.isNotEmpty()
+        segmentsDroppedSinceBounding = 0
     }
 
-    private fun clearLines() {
-        for (i in contentNode.children.size - 1 downTo 0) {
-            contentNode.removeChild(contentNode.children[i])
+    private fun extendLinesBounding(start: Vector3, end: Vector3) {
+        linesBounding = if (hasLinesBounding) {
+            Utils.findMinimumBounding(listOf(linesBounding.min, linesBounding.max, start, end))
+        } else {
+            Utils.findMinimumBounding(listOf(start, end))
         }
-        pointsList.clear()
+        hasLinesBounding = true
     }
 
-    private fun cancelCubeLoadRequest() {
-        cubeLoadRequest?.let { it ->
-            cubeRenderableBuilder.cancel(it)
+    private fun cancelLineLoadRequest() {
+        lineLoadRequest?.let { it ->
+            lineRenderableBuilder.cancel(it)
         }
+        lineLoadRequest = null
     }
 
-}
\ No newline at end of file
+}
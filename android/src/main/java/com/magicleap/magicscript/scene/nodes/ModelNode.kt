@@ -43,13 +43,6 @@ class ModelNode(
         const val DEFAULT_IMPORT_SCALE = 1.0
     }
 
-    override var clipBounds: AABB?
-        get() = super.clipBounds
-        set(value) {
-            super.clipBounds = value
-            applyClipBounds()
-        }
-
     private var renderableLoadRequest: ModelRenderableLoader.LoadRequest? = null
     private var renderableCopy: ModelRenderable? = null
 
@@ -68,6 +61,10 @@ class ModelNode(
         // according to Lumin we cannot change alignment for Model
     }
 
+    override fun onClipBoundsChanged() {
+        applyClipBounds()
+    }
+
     override fun onTransformedLocally() {
         super.onTransformedLocally()
         applyClipBounds()
@@ -129,6 +126,7 @@ class ModelNode(
                     }
                 }
             }.also {
+                it.priorityNode = this
                 modelRenderableLoader.loadRenderable(it)
             }
         }
@@ -67,7 +67,7 @@ open class UIWebViewNode(
         super.applyProperties(props)
 
         if (props.containsKey(PROP_WIDTH) || props.containsKey(PROP_HEIGHT)) {
-            setNeedsRebuild()
+            setNeedsResize()
         }
 
         setUrl(props)
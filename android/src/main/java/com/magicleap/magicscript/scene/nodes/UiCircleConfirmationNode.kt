@@ -89,7 +89,7 @@ open class UiCircleConfirmationNode(
         super.applyProperties(props)
 
         if (props.containsKey(PROP_RADIUS)) {
-            setNeedsRebuild()
+            setNeedsResize()
         }
     }
 
@@ -79,12 +79,7 @@ open class UiColorPickerNode(
         super.setupView()
 
         (view as CustomButton).setIcon(ColorDrawable(Color.WHITE))
-
-        val hexColor = Integer.toHexString(selectedColor)
-        (view as CustomButton).apply {
-            setIconColor(selectedColor)
-            text = "#$hexColor"
-        }
+        showSelectedColor()
     }
 
     override fun applyProperties(props: Bundle) {
@@ -97,7 +92,8 @@ open class UiColorPickerNode(
         val color = readColor(props)
         if (color != selectedColor) {
             selectedColor = color
-            setNeedsRebuild()
+            showSelectedColor()
+            setNeedsResize()
         }
     }
 
@@ -106,6 +102,14 @@ open class UiColorPickerNode(
         showDialog()
     }
 
+    private fun showSelectedColor() {
+        val hexColor = Integer.toHexString(selectedColor)
+        (view as CustomButton).apply {
+            setIconColor(selectedColor)
+            text = "#$hexColor"
+        }
+    }
+
     private fun readColor(props: Bundle): Int {
         return props.readColor(PROP_COLOR) ?: (props.readColor(PROP_STARTING_COLOR) ?: Color.WHITE)
     }
@@ -116,7 +120,8 @@ open class UiColorPickerNode(
         colorPickerDialog.apply {
             onConfirm = { color ->
                 selectedColor = color
-                setNeedsRebuild(force = true)
+                showSelectedColor()
+                setNeedsResize(force = true)
                 this@UiColorPickerNode.onColorConfirmed?.invoke(color.toJsColorArray())
             }
             onCanceled = {
@@ -80,7 +80,7 @@ open class UiImageNode(
         super.applyProperties(props)
 
         if (props.containsKey(PROP_WIDTH) || props.containsKey(PROP_HEIGHT)) {
-            setNeedsRebuild()
+            setNeedsResize()
         }
 
         setImagePath(props)
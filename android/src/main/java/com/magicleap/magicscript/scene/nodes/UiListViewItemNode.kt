@@ -40,6 +40,7 @@ open class UiListViewItemNode(
         set(value) {
             if (field != value) {
                 field = value
+                contentChanged = true
                 setNeedsRebuild(true)
             }
         }
@@ -48,14 +49,24 @@ open class UiListViewItemNode(
         set(value) {
             if (field != value) {
                 field = value
+                contentChanged = true
                 setNeedsRebuild(true)
             }
         }
 
     var contentAlignment = Alignment()
+        set(value) {
+            if (field != value) {
+                field = value
+                contentChanged = true
+            }
+        }
 
     private var lastContentBounds = AABB()
 
+    // content position has to be adjusted when true
+    private var contentChanged = false
+
     init {
         properties.putDefault(PROP_BACKGROUND_COLOR, DEFAULT_BACKGROUND_COLOR)
     }
@@ -91,9 +102,19 @@ open class UiListViewItemNode(
         }
     }
 
+    override fun onChildBoundsChanged(child: TransformNode) {
+        super.onChildBoundsChanged(child)
+        contentChanged = true
+    }
+
     override fun onUpdate(deltaSeconds: Float) {
         super.onUpdate(deltaSeconds)
 
+        if (!contentChanged) {
+            return
+        }
+        contentChanged = false
+
         val content = contentNode.children.firstOrNull() as? TransformNode
         if (content != null) {
             val contentBounds = content.getBounding()
@@ -20,11 +20,13 @@ import android.content.Context
 import android.os.Bundle
 import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.bridge.ReadableMap
+import com.google.ar.sceneform.Node
 import com.google.ar.sceneform.math.Vector3
 import com.magicleap.magicscript.ar.clip.Clipper
 import com.magicleap.magicscript.ar.renderable.ViewRenderableLoader
 import com.magicleap.magicscript.scene.nodes.base.ReactNode
 import com.magicleap.magicscript.scene.nodes.base.UiBaseLayout
+import com.magicleap.magicscript.scene.nodes.base.UiNode
 import com.magicleap.magicscript.scene.nodes.layouts.UiLinearLayout
 import com.magicleap.magicscript.scene.nodes.layouts.manager.HorizontalLinearLayoutManager
 import com.magicleap.magicscript.scene.nodes.layouts.manager.LinearLayoutManager
@@ -35,6 +37,7 @@ import com.magicleap.magicscript.utils.Vector2
 import com.magicleap.magicscript.utils.containsAny
 import com.magicleap.magicscript.utils.putDefault
 import com.magicleap.magicscript.utils.read
+import com.magicleap.magicscript.utils.unaryMinus
 
 open class UiListViewNode(
     initProps: ReadableMap,
@@ -56,11 +59,15 @@ open class UiListViewNode(
         const val PROP_SCROLLING_ENABLED = "scrollingEnabled"
         const val PROP_SCROLL_TO_ITEM = "scrollToItem"
         const val PROP_SKIP_INVISIBLE_ITEMS = "skipInvisibleItems"
+        const val PROP_RECYCLE_ITEMS = "recycleItems"
 
         const val DEFAULT_ORIENTATION = ORIENTATION_VERTICAL
         const val DEFAULT_ITEM_ALIGNMENT = "top-left"
         // default padding for each item [top, right, bottom, left]
         val DEFAULT_ITEM_PADDING = arrayListOf(0.0, 0.0, 0.0, 0.0)
+
+        // items closer to the viewport than this fraction of its size stay materialized
+        const val RECYCLE_MARGIN_RATIO = 0.5f
     }
 
     private var contentAdded = false
@@ -71,6 +78,18 @@ open class UiListViewNode(
     private var itemAlignmentMap: Map<Int, Alignment>? = null
     private var defaultItemAlignment = Alignment(Alignment.Vertical.TOP, Alignment.Horizontal.LEFT)
 
+    private var recycleItems = false
+
+    // items extents along the scroll axis, cached after each layout of the container
+    private var items = listOf<UiListViewItemNode>()
+    private var itemsMin = FloatArray(0)
+    private var itemsMax = FloatArray(0)
+    private var itemsSizePrefixSum = FloatArray(1)
+    private var itemsExtentsDirty = true
+
+    // visible part of the container that items were recycled against
+    private var recycleWindow: AABB? = null
+
     init {
         // setting default values of properties
         properties.putDefault(PROP_ORIENTATION, DEFAULT_ORIENTATION)
@@ -81,6 +100,9 @@ open class UiListViewNode(
         val linearLayoutManager =
             LinearLayoutManager(VerticalLinearLayoutManager(), HorizontalLinearLayoutManager())
         containerNode = UiLinearLayout(containerProps, linearLayoutManager)
+        containerNode.onLayoutListener = {
+            itemsExtentsDirty = true
+        }
 
         onContentSizeChangedListener = { contentSize ->
             this.contentSize = contentSize
@@ -103,11 +125,6 @@ open class UiListViewNode(
 
         super.applyProperties(props)
 
-
-        if (props.containsKey(PROP_WIDTH) || props.containsKey(PROP_HEIGHT)) {
-            setNeedsRebuild()
-        }
-
         if (props.containsAny(PROP_ITEM_PADDING, PROP_DEFAULT_ITEM_PADDING)) {
             readItemsPadding()
         }
@@ -122,9 +139,13 @@ open class UiListViewNode(
         }
 
         setScrollingEnabled(props)
+        setRecycleItems(props)
         setScrollToItem(props)
     }
 
+    override val rebuildProperties: Set<String>
+        get() = super.rebuildProperties + setOf(PROP_WIDTH, PROP_HEIGHT)
+
     override fun provideDesiredSize(): Vector2 {
         val size = readSize()
 
@@ -162,6 +183,7 @@ open class UiListViewNode(
         when (child) {
             is UiListViewItemNode -> {
                 addItem(child)
+                itemsExtentsDirty = true
                 val itemIndex = getItems().size - 1
                 child.contentPadding = itemsPaddingMap?.get(itemIndex) ?: defaultItemsPadding
                 child.contentAlignment = itemAlignmentMap?.get(itemIndex) ?: defaultItemAlignment
@@ -178,6 +200,13 @@ open class UiListViewNode(
         }
     }
 
+    override fun onUpdate(deltaSeconds: Float) {
+        super.onUpdate(deltaSeconds)
+        if (recycleItems) {
+            recycleItemsOutsideViewport()
+        }
+    }
+
     private fun readSize(): Vector2 {
         val width = properties.getDouble(PROP_WIDTH, WRAP_CONTENT_DIMENSION.toDouble())
         val height = properties.getDouble(PROP_HEIGHT, WRAP_CONTENT_DIMENSION.toDouble())
@@ -205,13 +234,25 @@ open class UiListViewNode(
         (view as CustomScrollView).scrollingEnabled = scrollingEnabled
     }
 
+    private fun setRecycleItems(props: Bundle) {
+        val recycle = props.read<Boolean>(PROP_RECYCLE_ITEMS) ?: return
+        if (recycle == recycleItems) {
+            return
+        }
+        recycleItems = recycle
+        recycleWindow = null
+        if (!recycle) {
+            getItems().forEach { it.isEnabled = true }
+        }
+    }
+
     private fun setScrollToItem(props: Bundle) {
         val itemIndex = props.read<Int>(PROP_SCROLL_TO_ITEM) ?: return
         scrollToItem(itemIndex)
     }
 
     private fun scrollToItem(itemIndex: Int) {
-        val items = getItems()
+        refreshItemsExtents()
         if (itemIndex > items.size - 1) {
             requestedScrollIndex = itemIndex
             return
@@ -219,8 +260,8 @@ open class UiListViewNode(
 
         val orientation = properties.read(PROP_ORIENTATION) ?: DEFAULT_ORIENTATION
         if (orientation == ORIENTATION_VERTICAL) {
-            val sumHeightBeforeItem = calculateItemsHeight(items, itemIndex)
-            val allItemsHeight = calculateItemsHeight(items, items.size)
+            val sumHeightBeforeItem = itemsSizePrefixSum[itemIndex]
+            val allItemsHeight = itemsSizePrefixSum[items.size]
             val maxTravel = allItemsHeight - getBounding().size().y
 
             if (maxTravel > 0) {
@@ -228,8 +269,8 @@ open class UiListViewNode(
                 (view as CustomScrollView).updateScrollValue(Vector2(0f, positionY))
             }
         } else {
-            val sumWidthBeforeItem = calculateItemsWidth(items, itemIndex)
-            val allItemsWidth = calculateItemsWidth(items, items.size)
+            val sumWidthBeforeItem = itemsSizePrefixSum[itemIndex]
+            val allItemsWidth = itemsSizePrefixSum[items.size]
             val maxTravel = allItemsWidth - getBounding().size().x
 
             if (maxTravel > 0) {
@@ -254,29 +295,88 @@ open class UiListViewNode(
     }
 
     /**
-     * Calculates summary height of items before item at [toIndex]
-     *
-     * @param toIndex exclusive index of item
+     * Caches the extents of items along the scroll axis, so the scroll offset
+     * and the visible items can be found without measuring all items.
+     * The size prefix sum at index i is the summary size of items before item i.
      */
-    private fun calculateItemsHeight(items: List<UiListViewItemNode>, toIndex: Int): Float {
-        var sum = 0f
-        for (i in 0 until toIndex) {
-            sum += items[i].getBounding().size().y
+    private fun refreshItemsExtents() {
+        if (!itemsExtentsDirty) {
+            return
+        }
+        itemsExtentsDirty = false
+        recycleWindow = null
+
+        items = getItems()
+        val count = items.size
+        if (itemsMin.size != count) {
+            itemsMin = FloatArray(count)
+            itemsMax = FloatArray(count)
+            itemsSizePrefixSum = FloatArray(count + 1)
+        }
+
+        val vertical = isVertical()
+        for (i in 0 until count) {
+            val bounds = items[i].getBounding()
+            itemsMin[i] = if (vertical) bounds.min.y else bounds.min.x
+            itemsMax[i] = if (vertical) bounds.max.y else bounds.max.x
+            itemsSizePrefixSum[i + 1] = itemsSizePrefixSum[i] + (itemsMax[i] - itemsMin[i])
         }
-        return sum
     }
 
     /**
-     * Calculates summary width of items before item at [toIndex]
-     *
-     * @param toIndex exclusive index of item
+     * Disables the items that are outside the viewport (plus a margin) and releases
+     * their renderables, so they are not rendered nor updated every frame.
+     * Items are enabled again when they get close to the viewport.
      */
-    private fun calculateItemsWidth(items: List<UiListViewItemNode>, toIndex: Int): Float {
-        var sum = 0f
-        for (i in 0 until toIndex) {
-            sum += items[i].getBounding().size().x
+    private fun recycleItemsOutsideViewport() {
+        val window = getVisibleWindow() ?: return
+        if (!itemsExtentsDirty && recycleWindow?.equalInexact(window) == true) {
+            return
         }
-        return sum
+        refreshItemsExtents()
+        recycleWindow = window
+
+        val vertical = isVertical()
+        val windowMin = if (vertical) window.min.y else window.min.x
+        val windowMax = if (vertical) window.max.y else window.max.x
+        val margin = (windowMax - windowMin) * RECYCLE_MARGIN_RATIO
+
+        for (i in items.indices) {
+            val item = items[i]
+            val nearViewport = itemsMax[i] > windowMin - margin && itemsMin[i] < windowMax + margin
+            if (nearViewport && !item.isEnabled) {
+                item.isEnabled = true
+            } else if (!nearViewport && item.isEnabled) {
+                item.isEnabled = false
+                releaseRenderables(item)
+            }
+        }
+    }
+
+    /**
+     * Returns the visible part of the container in coordinates of its children
+     * (the same that is used to clip the items)
+     */
+    private fun getVisibleWindow(): AABB? {
+        val clipBounds = containerNode.clipBounds ?: return null
+        val scale = containerNode.localScale
+        if (scale.x <= 0 || scale.y <= 0 || scale.z <= 0) {
+            return null
+        }
+        return clipBounds
+            .translated(-containerNode.getContentPosition())
+            .scaled(1 / scale.x, 1 / scale.y, 1 / scale.z)
+    }
+
+    private fun releaseRenderables(node: Node) {
+        if (node is UiNode) {
+            node.releaseRenderable()
+        }
+        node.children.forEach { releaseRenderables(it) }
+    }
+
+    private fun isVertical(): Boolean {
+        return properties.getString(PROP_ORIENTATION, DEFAULT_ORIENTATION) == ORIENTATION_VERTICAL
     }
 
     private fun extractContainerProps(props: Bundle): JavaOnlyMap {
@@ -294,8 +394,8 @@ open class UiListViewNode(
     }
 
     private fun readItemsPadding() {
-        itemsPaddingMap = properties.read<ItemPaddingMap>(PROP_ITEM_PADDING)?.paddings
-        defaultItemsPadding = properties.read<Padding>(PROP_DEFAULT_ITEM_PADDING)!!
+        itemsPaddingMap = readProperty<ItemPaddingMap>(PROP_ITEM_PADDING)?.paddings
+        defaultItemsPadding = readProperty<Padding>(PROP_DEFAULT_ITEM_PADDING)!!
 
         getItems().forEachIndexed { index, item ->
             item.contentPadding = itemsPaddingMap?.get(index) ?: defaultItemsPadding
@@ -303,8 +403,8 @@ open class UiListViewNode(
     }
 
     private fun readItemsAlignment() {
-        itemAlignmentMap = properties.read<ItemAlignmentMap>(PROP_ITEM_ALIGNMENT)?.alignments
-        defaultItemAlignment = properties.read<Alignment>(PROP_DEFAULT_ITEM_ALIGNMENT)!!
+        itemAlignmentMap = readProperty<ItemAlignmentMap>(PROP_ITEM_ALIGNMENT)?.alignments
+        defaultItemAlignment = readProperty<Alignment>(PROP_DEFAULT_ITEM_ALIGNMENT)!!
 
         getItems().forEachIndexed { index, item ->
             item.contentAlignment = itemAlignmentMap?.get(index) ?: defaultItemAlignment
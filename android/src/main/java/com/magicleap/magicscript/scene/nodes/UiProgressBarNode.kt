@@ -72,7 +72,7 @@ open class UiProgressBarNode(
         super.applyProperties(props)
 
         if (props.containsKey(PROP_WIDTH) || props.containsKey(PROP_HEIGHT)) {
-            setNeedsRebuild()
+            setNeedsResize()
         }
 
         setValue(props)
@@ -88,6 +88,12 @@ open class UiScrollViewNode(
     private var content: TransformNode? = null
     private var contentBounds = AABB()
 
+    // true when the content may have changed its size and should be measured again
+    private var contentBoundsDirty = true
+
+    // true while the content is moved by scrolling (it does not change the content size)
+    private var scrollingContent = false
+
     private var requestedContentPosition = Vector2()
     private var scrollOffset = Vector3.zero()
 
@@ -113,8 +119,12 @@ open class UiScrollViewNode(
         return LayoutInflater.from(context).inflate(R.layout.scroll_view, null)
     }
 
+    // the scroll bars are set up for the size of the scroll view
+    override val rebuildProperties: Set<String>
+        get() = setOf(PROP_SCROLL_BOUNDS)
+
     override fun provideDesiredSize(): Vector2 {
-        val propBounds = properties.read<AABB>(PROP_SCROLL_BOUNDS)
+        val propBounds = readProperty<AABB>(PROP_SCROLL_BOUNDS)
         return if (propBounds != null) {
             val size = propBounds.size()
             Vector2(size.x, size.y)
@@ -128,6 +138,7 @@ open class UiScrollViewNode(
 
         vBarNode?.apply { setupScrollBar(this) }
         hBarNode?.apply { setupScrollBar(this) }
+        contentBoundsDirty = true
 
         val scrollView = view as CustomScrollView
         scrollView.onUserScrollListener = { position: Vector2 ->
@@ -144,10 +155,6 @@ open class UiScrollViewNode(
     override fun applyProperties(props: Bundle) {
         super.applyProperties(props)
 
-        if (props.containsKey(PROP_SCROLL_BOUNDS)) {
-            setNeedsRebuild()
-        }
-
         setScrollDirection(props)
         setScrollbarVisibility(props)
         setScrollValue(props)
@@ -178,6 +185,7 @@ open class UiScrollViewNode(
 
         if (content == null) {
             this.content = child
+            contentBoundsDirty = true
             applyContentClipping()
         } else {
             child.hide()
@@ -211,14 +219,16 @@ open class UiScrollViewNode(
 
     override fun onUpdate(deltaSeconds: Float) {
         super.onUpdate(deltaSeconds)
-        content?.let { it ->
-            // check if content bounds changed
-            val newContentBounds = it.getContentBounding()
-            if (!contentBounds.equalInexact(newContentBounds)) {
-                this.contentBounds = newContentBounds
-                onContentSizeChangedListener?.invoke(newContentBounds.size())
-            }
-            layout()
+        if (content != null && contentBoundsDirty) {
+            refreshContentBounds()
+            update((view as CustomScrollView).scrollValue)
+        }
+    }
+
+    override fun onChildBoundsChanged(child: TransformNode) {
+        super.onChildBoundsChanged(child)
+        if (child === content && !scrollingContent) {
+            contentBoundsDirty = true
         }
     }
 
@@ -243,25 +253,40 @@ open class UiScrollViewNode(
             setThickness(thicknessPx)
             post {
                 // at this moment width and height is known, so we can adjust the content clipping
+                contentBoundsDirty = true
                 applyContentClipping()
             }
         }
     }
 
-    private fun layout() {
-        val scrollView = (view as CustomScrollView)
+    /**
+     * Measures the content and updates the scroll view with its size. The content is
+     * measured only after its bounds have been invalidated, because it's expensive
+     * for a big content (e.g. a grid with many items)
+     */
+    private fun refreshContentBounds() {
+        val content = content ?: return
+        contentBoundsDirty = false
+
+        val newContentBounds = content.getContentBounding()
+        if (!contentBounds.equalInexact(newContentBounds)) {
+            this.contentBounds = newContentBounds
+            onContentSizeChangedListener?.invoke(newContentBounds.size())
+        }
+
         val contentSize = contentBounds.size()
-        scrollView.contentSize = Vector2(
+        (view as CustomScrollView).contentSize = Vector2(
             metersToPx(contentSize.x, context).toFloat(),
             metersToPx(contentSize.y, context).toFloat()
         )
-
-        update(scrollView.scrollValue)
     }
 
     private fun update(viewPosition: Vector2) {
         content?.let { content ->
-            val contentBounds = content.getContentBounding().toBounding2d()
+            if (contentBoundsDirty) {
+                refreshContentBounds()
+            }
+            val contentBounds = contentBounds.toBounding2d()
             val viewBounds = getScrollBounds().toBounding2d()
             val alignTopLeft = Vector2(
                 viewBounds.left - contentBounds.left,
@@ -286,7 +311,11 @@ open class UiScrollViewNode(
             ) + scrollOffset
 
             if (!position.equalInexact(content.localPosition, epsilon = 1e-5f)) {
+                // moving the content only translates the clip bounds of its descendants,
+                // so it doesn't need to be measured again
+                scrollingContent = true
                 content.localPosition = position
+                scrollingContent = false
                 applyContentClipping()
             }
 
@@ -346,7 +375,7 @@ open class UiScrollViewNode(
         val yMin = -size.y / 2F + hBarHeightMeters
         val yMax = size.y / 2F
 
-        val propBounds = properties.read<AABB>(PROP_SCROLL_BOUNDS)
+        val propBounds = readProperty<AABB>(PROP_SCROLL_BOUNDS)
         val sizeZ = propBounds?.size()?.z ?: DEFAULT_THICKNESS
 
         val zMin = -sizeZ / 2
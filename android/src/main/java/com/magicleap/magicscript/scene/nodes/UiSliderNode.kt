@@ -73,7 +73,7 @@ open class UiSliderNode(
         super.applyProperties(props)
 
         if (props.containsKey(PROP_WIDTH) || props.containsKey(PROP_HEIGHT)) {
-            setNeedsRebuild()
+            setNeedsResize()
         }
 
         setValue(props)
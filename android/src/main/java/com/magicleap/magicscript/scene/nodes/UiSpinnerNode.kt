@@ -65,7 +65,7 @@ open class UiSpinnerNode(
         super.applyProperties(props)
 
         if (props.containsKey(PROP_HEIGHT)) {
-            setNeedsRebuild()
+            setNeedsResize()
         }
 
         setDeterminate(props)
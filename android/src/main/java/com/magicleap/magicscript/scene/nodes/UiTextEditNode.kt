@@ -142,7 +142,7 @@ open class UiTextEditNode(
     override fun applyProperties(props: Bundle) {
         super.applyProperties(props)
         if (props.containsKey(PROP_WIDTH) || props.containsKey(PROP_HEIGHT)) {
-            setNeedsRebuild()
+            setNeedsResize()
         }
         setText(props)
         setHint(props)
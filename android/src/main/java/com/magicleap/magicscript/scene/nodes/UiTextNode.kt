@@ -18,6 +18,8 @@ package com.magicleap.magicscript.scene.nodes
 
 import android.content.Context
 import android.os.Bundle
+import android.text.Layout
+import android.text.StaticLayout
 import android.util.TypedValue
 import android.view.Gravity
 import android.view.LayoutInflater
@@ -34,6 +36,7 @@ import com.magicleap.magicscript.utils.Utils
 import com.magicleap.magicscript.utils.Vector2
 import com.magicleap.magicscript.utils.putDefault
 import com.magicleap.magicscript.utils.readColor
+import kotlin.math.ceil
 
 open class UiTextNode(
     initProps: ReadableMap,
@@ -59,6 +62,9 @@ open class UiTextNode(
         const val DEFAULT_WRAP = true
     }
 
+    // width (in px) and lines count of the displayed text or null if not measured yet
+    private var textSizeClass: Pair<Int, Int>? = null
+
     init {
         // set default values of properties
         properties.putDefault(PROP_TEXT_SIZE, DEFAULT_TEXT_SIZE)
@@ -73,8 +79,13 @@ open class UiTextNode(
         return readBoundsSize()
     }
 
+    // wrap mode of the text is set up once for the view
+    override val rebuildProperties: Set<String>
+        get() = setOf(PROP_BOUNDS_SIZE)
+
     override fun setupView() {
         super.setupView()
+        textSizeClass = null
 
         val wrap = readWrapProperty(properties)
         if (!wrap) {
@@ -91,10 +102,6 @@ open class UiTextNode(
     override fun applyProperties(props: Bundle) {
         super.applyProperties(props)
 
-        if (props.containsKey(PROP_BOUNDS_SIZE)) {
-            setNeedsRebuild()
-        }
-
         setText(props)
         setTextSize(props)
         setTextAlignment(props)
@@ -132,14 +139,51 @@ open class UiTextNode(
     protected open fun setText(props: Bundle) {
         val text = props.getString(PROP_TEXT)
         if (text != null) {
-            (view as TextView).text = text
-            // rebuild only if size can be changed
-            if (canResizeOnContentChange()) {
-                setNeedsRebuild()
+            val textView = view as TextView
+            if (!updatingProperties || !canResizeOnContentChange()) {
+                textView.text = text
+                return
+            }
+            if (text == textView.text.toString()) {
+                return
+            }
+            // the renderable shows the same view, so it has to be re-laid out
+            // only if the text doesn't fit the current size anymore
+            val previousSizeClass = textSizeClass ?: measureText(textView.text)
+            val sizeClass = measureText(text)
+            textView.text = text
+            textSizeClass = sizeClass
+            if (sizeClass != previousSizeClass) {
+                setNeedsResize()
             }
         }
     }
 
+    /**
+     * Measures the [text] with the current paint of the view and returns
+     * its width in pixels and the number of lines.
+     */
+    private fun measureText(text: CharSequence): Pair<Int, Int> {
+        val textView = view as TextView
+        val displayedText = textView.transformationMethod?.getTransformation(text, textView) ?: text
+        val paint = textView.paint
+        val bounds = readBoundsSize()
+
+        if (bounds.x == WRAP_CONTENT_DIMENSION) {
+            val width = ceil(Layout.getDesiredWidth(displayedText, paint)).toInt()
+            return Pair(width, displayedText.lines().size)
+        }
+
+        val padding = textView.compoundPaddingLeft + textView.compoundPaddingRight
+        val width = maxOf(Utils.metersToPx(bounds.x, context) - padding, 0)
+        val layout = StaticLayout.Builder
+            .obtain(displayedText, 0, displayedText.length, paint, width)
+            .setLineSpacing(textView.lineSpacingExtra, textView.lineSpacingMultiplier)
+            .setIncludePad(textView.includeFontPadding)
+            .build()
+        return Pair(width, layout.lineCount)
+    }
+
     private fun setTextSize(props: Bundle) {
         if (props.containsKey(PROP_TEXT_SIZE)) {
             val sizeMeters = props.getDouble(PROP_TEXT_SIZE).toFloat()
@@ -150,9 +194,10 @@ open class UiTextNode(
     private fun setTextSize(sizeMeters: Float) {
         val size = Utils.metersToFontPx(sizeMeters, view.context).toFloat()
         (view as TextView).setTextSize(TypedValue.COMPLEX_UNIT_PX, size)
-        // rebuild only if size can be changed
+        textSizeClass = null
+        // resize only if size can be changed
         if (canResizeOnContentChange()) {
-            setNeedsRebuild()
+            setNeedsResize()
         }
     }
 
@@ -189,9 +234,10 @@ open class UiTextNode(
 
     private fun setCharactersSpacing(spacing: Double) {
         (view as TextView).letterSpacing = spacing.toFloat()
-        // rebuild only if size can be changed
+        textSizeClass = null
+        // resize only if size can be changed
         if (canResizeOnContentChange()) {
-            setNeedsRebuild()
+            setNeedsResize()
         }
     }
 
@@ -199,6 +245,7 @@ open class UiTextNode(
         if (props.containsKey(PROP_LINE_SPACING)) {
             val spacingMultiplier = props.getDouble(PROP_LINE_SPACING).toFloat()
             (view as TextView).setLineSpacing(0F, spacingMultiplier)
+            textSizeClass = null
         }
     }
 
@@ -208,10 +255,12 @@ open class UiTextNode(
         if (fontParams.style != null || fontParams.weight != null) {
             (view as TextView).typeface =
                 fontProvider.provideFont(fontParams.style, fontParams.weight)
+            textSizeClass = null
         }
 
         fontParams.allCaps?.let {
             (view as TextView).isAllCaps = it
+            textSizeClass = null
         }
 
         fontParams.fontSize?.let {
@@ -19,6 +19,8 @@ package com.magicleap.magicscript.scene.nodes.audio
 import android.content.Context
 import android.os.Bundle
 import com.facebook.react.bridge.ReadableMap
+import com.google.ar.sceneform.Node
+import com.google.ar.sceneform.math.Vector3
 import com.magicleap.magicscript.scene.nodes.audio.model.SpatialSoundDistance
 import com.magicleap.magicscript.scene.nodes.audio.model.SpatialSoundPosition
 import com.magicleap.magicscript.scene.nodes.base.TransformNode
@@ -60,6 +62,12 @@ open class AudioNode(
     private var spatialSoundEnabled = DEFAULT_SPATIAL_SOUND_ENABLE
     private var lastUserAction: String = ""
 
+    // position of the sound relative to this node
+    private var channelPosition = Vector3.zero()
+
+    // true when the world transform has changed (also because of an ancestor)
+    private var soundPositionDirty = false
+
     override fun applyProperties(props: Bundle) {
         super.applyProperties(props)
 
@@ -78,6 +86,18 @@ open class AudioNode(
         super.onDestroy()
     }
 
+    override fun onTransformChange(node: Node) {
+        super.onTransformChange(node)
+        soundPositionDirty = true
+    }
+
+    override fun onUpdate(deltaSeconds: Float) {
+        super.onUpdate(deltaSeconds)
+        if (soundPositionDirty && spatialSoundEnabled) {
+            updateSoundPosition()
+        }
+    }
+
     override fun onHostPause() {
         super.onHostPause()
         audioEngine.pause()
@@ -134,7 +154,8 @@ open class AudioNode(
     private fun applySpatialSoundProperties(props: Bundle) {
         props.read<SpatialSoundPosition>(PROP_SPATIAL_SOUND_POSITION)?.let { spatialSoundPosition ->
             spatialSoundPosition.channelPosition?.let { channelPosition ->
-                audioEngine.setSoundObjectPosition(channelPosition)
+                this.channelPosition = channelPosition
+                updateSoundPosition()
             }
         }
 
@@ -142,4 +163,9 @@ open class AudioNode(
             audioEngine.setSoundObjectDistanceRolloffModel(spatialSoundDistance)
         }
     }
+
+    private fun updateSoundPosition() {
+        soundPositionDirty = false
+        audioEngine.setSoundObjectPosition(localToWorldPoint(channelPosition))
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.scene.nodes.audio
+
+/**
+ * Limits the number of audible sources of the shared audio engine.
+ *
+ * When more than [maxActiveSources] sources are playing, the sources with the
+ * lowest priority are virtualized: they keep playing (so they stay in sync),
+ * but are muted until one of the audible sources stops.
+ *
+ * It also collects the sources which positions have changed, so they are
+ * passed to the engine once per frame ([applyDirtyPositions]).
+ */
+class AudioSourceMixer(private val maxActiveSources: Int) {
+
+    interface Source {
+        /**
+         * Sources with the higher priority are audible first
+         */
+        val priority: Float
+
+        /**
+         * Should return false if the source has finished playing
+         */
+        val isPlaying: Boolean
+
+        fun setVirtualized(virtualized: Boolean)
+
+        /**
+         * Should pass the last position of the source to the engine
+         */
+        fun applyPosition()
+    }
+
+    // playing sources in the order they have been started
+    private val activeSources = LinkedHashSet<Source>()
+
+    private val dirtySources = LinkedHashSet<Source>()
+
+    init {
+        require(maxActiveSources > 0) { "maxActiveSources should be greater than 0" }
+    }
+
+    val activeSourcesCount: Int
+        @Synchronized get() = activeSources.size
+
+    @Synchronized
+    fun onSourceStarted(source: Source) {
+        activeSources.removeAll { it != source && !it.isPlaying }
+        activeSources.add(source)
+        rebalance()
+    }
+
+    @Synchronized
+    fun onSourceStopped(source: Source) {
+        if (activeSources.remove(source)) {
+            source.setVirtualized(false)
+            rebalance()
+        }
+    }
+
+    @Synchronized
+    fun onPriorityChanged(source: Source) {
+        if (source in activeSources) {
+            rebalance()
+        }
+    }
+
+    @Synchronized
+    fun markPositionDirty(source: Source) {
+        dirtySources.add(source)
+    }
+
+    @Synchronized
+    fun removeSource(source: Source) {
+        dirtySources.remove(source)
+        onSourceStopped(source)
+    }
+
+    @Synchronized
+    fun applyDirtyPositions() {
+        dirtySources.forEach { it.applyPosition() }
+        dirtySources.clear()
+    }
+
+    private fun rebalance() {
+        if (activeSources.size <= maxActiveSources) {
+            activeSources.forEach { it.setVirtualized(false) }
+            return
+        }
+        // stable sort, so the sources started earlier win when priorities are equal
+        val audibleSources = activeSources
+            .sortedByDescending { it.priority }
+            .take(maxActiveSources)
+            .toSet()
+        activeSources.forEach { it.setVirtualized(it !in audibleSources) }
+    }
+
+}
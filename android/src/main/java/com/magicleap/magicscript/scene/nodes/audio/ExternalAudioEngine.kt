@@ -23,6 +23,9 @@ interface ExternalAudioEngine {
     fun playSound(sourceId: Int, looping: Boolean)
     fun pause()
     fun resume()
+    fun pauseSound(sourceId: Int)
+    fun resumeSound(sourceId: Int)
+    fun isSoundPlaying(sourceId: Int): Boolean
     fun setSoundObjectPosition(sourceId: Int, x: Float, y: Float, z: Float)
     fun setSoundObjectDistanceRolloffModel(
         sourceId: Int,
@@ -43,4 +46,7 @@ interface ExternalAudioEngine {
 
     fun createSoundObject(path: String?): Int
     fun createStereoSound(path: String?): Int
+    fun setHeadPosition(x: Float, y: Float, z: Float)
+    fun setHeadRotation(x: Float, y: Float, z: Float, w: Float)
+    fun update()
 }
\ No newline at end of file
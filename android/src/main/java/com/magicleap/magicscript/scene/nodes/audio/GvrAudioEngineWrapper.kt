@@ -43,6 +43,17 @@ class GvrAudioEngineWrapper(private val gvrAudioEngine: GvrAudioEngine) : Extern
         gvrAudioEngine.resume()
     }
 
+    override fun pauseSound(sourceId: Int) {
+        gvrAudioEngine.pauseSound(sourceId)
+    }
+
+    override fun resumeSound(sourceId: Int) {
+        gvrAudioEngine.resumeSound(sourceId)
+    }
+
+    override fun isSoundPlaying(sourceId: Int): Boolean =
+        gvrAudioEngine.isSoundPlaying(sourceId)
+
     override fun setSoundObjectPosition(sourceId: Int, x: Float, y: Float, z: Float) {
         gvrAudioEngine.setSoundObjectPosition(sourceId, x, y, z)
     }
@@ -83,4 +94,16 @@ class GvrAudioEngineWrapper(private val gvrAudioEngine: GvrAudioEngine) : Extern
     override fun createStereoSound(path: String?): Int =
         gvrAudioEngine.createStereoSound(path)
 
+    override fun setHeadPosition(x: Float, y: Float, z: Float) {
+        gvrAudioEngine.setHeadPosition(x, y, z)
+    }
+
+    override fun setHeadRotation(x: Float, y: Float, z: Float, w: Float) {
+        gvrAudioEngine.setHeadRotation(x, y, z, w)
+    }
+
+    override fun update() {
+        gvrAudioEngine.update()
+    }
+
 }
\ No newline at end of file
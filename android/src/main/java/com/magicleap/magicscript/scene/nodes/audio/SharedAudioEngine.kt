@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.scene.nodes.audio
+
+import com.google.ar.core.Pose
+import com.google.ar.core.TrackingState
+import com.google.vr.sdk.audio.GvrAudioEngine.MaterialName.CURTAIN_HEAVY
+import com.google.vr.sdk.audio.GvrAudioEngine.MaterialName.PLASTER_SMOOTH
+import com.magicleap.magicscript.ar.ArResourcesProvider
+import com.magicleap.magicscript.ar.CameraMovement
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Single audio engine of a scene shared by all audio nodes. It owns the
+ * executor that loads sound files and the room settings, and mixes the
+ * sources created with [createSource].
+ *
+ * The engine is updated once per frame from the camera updates: the head
+ * pose (only if the camera has noticeably moved since the last passed pose)
+ * and the positions of the sources that have changed are passed in a single task.
+ */
+class SharedAudioEngine @JvmOverloads constructor(
+    private val executorService: ExecutorService,
+    private val engine: ExternalAudioEngine,
+    private val arResourcesProvider: ArResourcesProvider,
+    maxActiveSources: Int = DEFAULT_MAX_ACTIVE_SOURCES
+) : ArResourcesProvider.CameraUpdatedListener {
+
+    companion object {
+        const val DEFAULT_MAX_ACTIVE_SOURCES = 16
+    }
+
+    private val mixer = AudioSourceMixer(maxActiveSources)
+
+    // the last head pose passed to the engine
+    private var lastHeadPose: Pose? = null
+
+    // the last head pose not yet passed to the engine
+    private val pendingHeadPose = AtomicReference<Pose?>(null)
+
+    // true when the engine update task is waiting for the executor
+    private val updateScheduled = AtomicBoolean(false)
+
+    init {
+        executorService.submit {
+            engine.setRoomProperties(
+                15f,
+                15f,
+                15f,
+                PLASTER_SMOOTH,
+                PLASTER_SMOOTH,
+                CURTAIN_HEAVY
+            )
+        }
+        arResourcesProvider.addCameraUpdatedListener(this)
+    }
+
+    override fun onCameraUpdated(cameraPose: Pose, state: TrackingState) {
+        if (state == TrackingState.TRACKING && hasHeadMoved(cameraPose)) {
+            pendingHeadPose.set(cameraPose)
+            lastHeadPose = cameraPose
+        }
+
+        // the previous update may be still waiting (e.g. behind a file loading),
+        // then it will pick the latest head pose
+        if (updateScheduled.compareAndSet(false, true)) {
+            executorService.submit {
+                updateScheduled.set(false)
+                updateEngine()
+            }
+        }
+    }
+
+    /**
+     * Creates a new sound source (for a single audio node) played by this engine
+     */
+    fun createSource(): AudioEngine {
+        return VrAudioEngine(executorService, engine, mixer)
+    }
+
+    /**
+     * Pauses the audio rendering of all sources (e.g. when the app goes to background)
+     */
+    fun pause() {
+        executorService.submit { engine.pause() }
+    }
+
+    /**
+     * Resumes the audio rendering paused with [pause]
+     */
+    fun resume() {
+        executorService.submit { engine.resume() }
+    }
+
+    fun release() {
+        arResourcesProvider.removeCameraUpdatedListener(this)
+        executorService.shutdownNow()
+    }
+
+    private fun hasHeadMoved(cameraPose: Pose): Boolean {
+        val headPose = lastHeadPose ?: return true
+        return CameraMovement.between(headPose, cameraPose).isNoticeable()
+    }
+
+    private fun updateEngine() {
+        pendingHeadPose.getAndSet(null)?.let { pose ->
+            engine.setHeadPosition(pose.tx(), pose.ty(), pose.tz())
+            engine.setHeadRotation(pose.qx(), pose.qy(), pose.qz(), pose.qw())
+        }
+        mixer.applyDirtyPositions()
+        engine.update()
+    }
+
+}
@@ -18,17 +18,22 @@ package com.magicleap.magicscript.scene.nodes.audio
 
 import com.google.ar.sceneform.math.Vector3
 import com.google.vr.sdk.audio.GvrAudioEngine
-import com.google.vr.sdk.audio.GvrAudioEngine.MaterialName.CURTAIN_HEAVY
-import com.google.vr.sdk.audio.GvrAudioEngine.MaterialName.PLASTER_SMOOTH
 import com.magicleap.magicscript.scene.nodes.audio.model.SpatialSoundDistance
 import java.io.File
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Future
 
-class VrAudioEngine(
+/**
+ * A single sound source of the audio [engine] (which may be shared between
+ * audio nodes, see [SharedAudioEngine]).
+ *
+ * @param mixer mixer that limits the number of audible sources or null
+ */
+class VrAudioEngine @JvmOverloads constructor(
     private val executorService: ExecutorService,
-    private var engine: ExternalAudioEngine
-) : AudioEngine {
+    private var engine: ExternalAudioEngine,
+    private val mixer: AudioSourceMixer? = null
+) : AudioEngine, AudioSourceMixer.Source {
 
     private var engineReady: Boolean = false
     private var spatialSound: Boolean = false
@@ -37,15 +42,31 @@ class VrAudioEngine(
     private var sourceId = GvrAudioEngine.INVALID_ID
     private var file: File? = null
     private var volume: Float = 0f
+    private var muted: Boolean = false
+    private var virtualized: Boolean = false
     private var lastAction: String = AudioAction.STOP
     private var looping: Boolean = false
     private var engineFuture: Future<*>? = null
 
+    override val priority: Float
+        get() = if (muted) 0f else volume
+
+    override val isPlaying: Boolean
+        get() = isLoaded() && engine.isSoundPlaying(sourceId)
+
+    override fun setVirtualized(virtualized: Boolean) {
+        if (virtualized != this.virtualized) {
+            this.virtualized = virtualized
+            applyVolume()
+        }
+    }
+
     override fun stop() {
         lastAction = AudioAction.STOP
         if (isLoaded()) {
             engine.stopSound(sourceId)
         }
+        mixer?.onSourceStopped(this)
     }
 
     override fun unload() {
@@ -53,23 +74,19 @@ class VrAudioEngine(
             engine.stopSound(sourceId)
             engine.unloadSoundFile(it.path)
         }
+        mixer?.onSourceStopped(this)
     }
 
     override fun setSoundVolume(volume: Float) {
         this.volume = volume
-        if (isLoaded()) {
-            engine.setSoundVolume(sourceId, volume)
-        }
+        applyVolume()
+        mixer?.onPriorityChanged(this)
     }
 
     override fun mute(muted: Boolean) {
-        if (isLoaded()) {
-            if (muted) {
-                engine.setSoundVolume(sourceId, 0f)
-            } else {
-                engine.setSoundVolume(sourceId, volume)
-            }
-        }
+        this.muted = muted
+        applyVolume()
+        mixer?.onPriorityChanged(this)
     }
 
     override fun load(file: File) {
@@ -83,20 +100,24 @@ class VrAudioEngine(
         lastAction = AudioAction.START
         if (isLoaded()) {
             engine.playSound(sourceId, looping)
+            mixer?.onSourceStarted(this)
         }
     }
 
     override fun pause() {
         lastAction = AudioAction.PAUSE
         if (isLoaded()) {
-            engine.pause()
+            // the engine may be shared, so pausing only this source
+            engine.pauseSound(sourceId)
+            mixer?.onSourceStopped(this)
         }
     }
 
     override fun resume() {
         lastAction = AudioAction.RESUME
         if (isLoaded()) {
-            engine.resume()
+            engine.resumeSound(sourceId)
+            mixer?.onSourceStarted(this)
         }
     }
 
@@ -113,13 +134,18 @@ class VrAudioEngine(
 
     override fun setSoundObjectPosition(channelPosition: Vector3) {
         this.channelPosition = channelPosition
+        if (mixer != null) {
+            // the position is passed to the shared engine once per frame
+            mixer.markPositionDirty(this)
+        } else {
+            applyPosition()
+        }
+    }
+
+    override fun applyPosition() {
+        val position = channelPosition ?: return
         if (isLoaded()) {
-            engine.setSoundObjectPosition(
-                sourceId,
-                channelPosition.x,
-                channelPosition.y,
-                channelPosition.z
-            )
+            engine.setSoundObjectPosition(sourceId, position.x, position.y, position.z)
         }
     }
 
@@ -144,20 +170,19 @@ class VrAudioEngine(
         engineReady = false
         lastAction = AudioAction.STOP
         unload()
+        mixer?.removeSource(this)
     }
 
     private fun setupAudioEngine(file: File) {
         unload()
         engine.preloadSoundFile(file.path)
         createAudioSource(file)
-        engine.setRoomProperties(
-            15f,
-            15f,
-            15f,
-            PLASTER_SMOOTH,
-            PLASTER_SMOOTH,
-            CURTAIN_HEAVY
-        )
+        if (spatialSound) {
+            applyPosition()
+        }
+        if (muted || virtualized) {
+            applyVolume()
+        }
         autoplayAudio()
         engineReady = true
     }
@@ -176,5 +201,12 @@ class VrAudioEngine(
         }
     }
 
+    private fun applyVolume() {
+        if (isLoaded()) {
+            val audible = !muted && !virtualized
+            engine.setSoundVolume(sourceId, if (audible) volume else 0f)
+        }
+    }
+
     private fun isLoaded() = sourceId != GvrAudioEngine.INVALID_ID
 }
\ No newline at end of file
@@ -16,5 +16,18 @@
 
 package com.magicleap.magicscript.scene.nodes.base
 
+import com.google.ar.sceneform.rendering.Renderable
+
 class TransformContentNode : TransformAwareNode() {
+
+    /**
+     * Called when renderable of this node has changed
+     */
+    var onContentChangedListener: (() -> Unit)? = null
+
+    override fun setRenderable(renderable: Renderable?) {
+        super.setRenderable(renderable)
+        onContentChangedListener?.invoke()
+    }
+
 }
\ No newline at end of file
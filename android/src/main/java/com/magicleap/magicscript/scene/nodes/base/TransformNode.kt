@@ -54,10 +54,11 @@ abstract class TransformNode(
         const val PROP_VISIBLE = "visible"
 
         /**
-         * Indicates how often we measure bounding and (if necessary)
-         * refresh alignment. Used only when [useContentNodeAlignment].
+         * Number of frames during which the bounding is measured after it has been
+         * invalidated and (if [useContentNodeAlignment]) alignment is refreshed.
+         * Measuring continues until the bounding does not change for that many frames.
          */
-        private const val ALIGNMENT_INTERVAL = 0.05F // in seconds
+        private const val SETTLE_FRAMES = 20
     }
 
     var onUpdatedListener: (() -> Unit)? = null
@@ -84,6 +85,13 @@ abstract class TransformNode(
      */
     protected val properties = Arguments.toBundle(initProps) ?: Bundle()
 
+    /**
+     * Decoded values of [properties] read with [readProperty].
+     * A value is removed when its property gets updated.
+     */
+    @PublishedApi
+    internal val decodedProperties = HashMap<String, Any>()
+
     // parent registered in React code
     override val reactParent: ReactNode?
         get() {
@@ -103,13 +111,20 @@ abstract class TransformNode(
      */
     open var clipBounds: AABB? = null
         set(value) {
+            val current = field
+            if (current == value || (current != null && value != null && current.equalInexact(value))) {
+                // the node and its descendants are already clipped with these bounds
+                return
+            }
             field = value
             clipChildren()
+            onClipBoundsChanged()
         }
 
     var isVisible: Boolean by Delegates.observable(true) { prop, old, new ->
         onVisibilityChanged(new)
         visibilityListeners.forEach { it.invoke(new) }
+        invalidateBounds()
     }
 
     protected var updatingProperties = false
@@ -117,7 +132,13 @@ abstract class TransformNode(
 
     private var bounding = AABB() // default
 
-    private var timeSinceLastAlignment = 0F
+    // the bounding is measured only when this is greater than 0
+    private var unsettledFrames = SETTLE_FRAMES
+
+    // scale and rotation when the local transform was last changed (moving
+    // the node doesn't change its size, so it doesn't have to be measured)
+    private var lastLocalScale: Vector3? = null
+    private var lastLocalRotation: Quaternion? = null
 
     private var visibilityListeners = mutableListOf<VisibilityChangedListener>()
 
@@ -126,8 +147,12 @@ abstract class TransformNode(
         contentNode.addOnLocalTransformChangedListener(object : LocalTransformListener {
             override fun onTransformed() {
                 onTransformedLocally()
+                invalidateBounds()
             }
         })
+        contentNode.onContentChangedListener = {
+            invalidateBounds()
+        }
         logMessage("initial properties = ${this.properties}")
     }
 
@@ -151,11 +176,14 @@ abstract class TransformNode(
         updatingProperties = true
         val propsToUpdate = Arguments.toBundle(props) ?: Bundle()
         this.properties.putAll(propsToUpdate) // save new props
+        propsToUpdate.keySet().forEach { decodedProperties.remove(it) }
 
         logMessage("updating properties: $propsToUpdate")
         applyProperties(propsToUpdate)
         updatingProperties = false
 
+        // any property may affect the size
+        invalidateBounds()
         onUpdatedListener?.invoke()
     }
 
@@ -174,6 +202,7 @@ abstract class TransformNode(
         }
         contentNode.addChild(child)
         clipChildren()
+        invalidateBounds()
     }
 
     override fun removeContent(child: ReactNode) {
@@ -181,6 +210,7 @@ abstract class TransformNode(
             return
         }
         contentNode.removeChild(child)
+        invalidateBounds()
     }
 
     /**
@@ -240,6 +270,21 @@ abstract class TransformNode(
         return properties.get(propertyName)
     }
 
+    /**
+     * Reads a property of compound type (e.g. [AABB] or [Alignment]) from [properties].
+     * The property is decoded only once until it gets updated, so it can be used
+     * in hot paths like layout. The returned object is shared and must not be modified.
+     */
+    protected inline fun <reified T : Any> readProperty(propertyName: String): T? {
+        val decoded = decodedProperties[propertyName]
+        if (decoded is T) {
+            return decoded
+        }
+        val value = properties.read<T>(propertyName) ?: return null
+        decodedProperties[propertyName] = value
+        return value
+    }
+
     override fun onDestroy() {
         onDeletedListener?.invoke()
     }
@@ -271,25 +316,43 @@ abstract class TransformNode(
      * We use custom onUpdate function in order to make it testable.
      */
     open fun onUpdate(deltaSeconds: Float) {
-        if (!useContentNodeAlignment) {
+        if (unsettledFrames == 0) {
             return
         }
-
-        timeSinceLastAlignment += deltaSeconds
-        if (timeSinceLastAlignment >= ALIGNMENT_INTERVAL) {
-            timeSinceLastAlignment = 0F
-            val currentBounding = getBounding()
-            if (!currentBounding.equalInexact(bounding)) {
-                // Refreshing alignment from a loop, because:
-                // - we don't know node size at beginning,
-                // - node size may have changed,
-                // - immediately after attaching a renderable the collision shape
-                // of a node returns wrong size (default) as it's probably calculated
-                // asynchronously
+        unsettledFrames--
+
+        val currentBounding = getBounding()
+        if (!currentBounding.equalInexact(bounding)) {
+            // Measuring for a few frames after invalidation, because
+            // immediately after attaching a renderable the collision shape
+            // of a node returns wrong size (default) as it's probably calculated
+            // asynchronously
+            unsettledFrames = SETTLE_FRAMES
+            if (useContentNodeAlignment) {
                 applyAlignment()
             }
-            bounding = currentBounding
+            (reactParent as? TransformNode)?.onChildBoundsChanged(this)
         }
+        bounding = currentBounding
+    }
+
+    /**
+     * Notifies that the bounding of this node may have changed, e.g. after its
+     * properties, transform or content has changed. The bounding is measured
+     * on the next frames until it's stable and the ancestors are notified
+     * with [onChildBoundsChanged], so the nodes that haven't changed
+     * don't do any measurement.
+     */
+    fun invalidateBounds() {
+        unsettledFrames = SETTLE_FRAMES
+        (reactParent as? TransformNode)?.onChildBoundsChanged(this)
+    }
+
+    /**
+     * Called when bounding of the [child] may have changed
+     */
+    protected open fun onChildBoundsChanged(child: TransformNode) {
+        invalidateBounds()
     }
 
     fun hide() {
@@ -325,6 +388,17 @@ abstract class TransformNode(
     final override fun onLocalTransformChanged() {
         super.onLocalTransformChanged()
         onTransformedLocally()
+
+        val scale = localScale
+        val rotation = localRotation
+        if (scale == lastLocalScale && rotation == lastLocalRotation) {
+            // only the position has changed
+            (reactParent as? TransformNode)?.onChildBoundsChanged(this)
+        } else {
+            lastLocalScale = scale
+            lastLocalRotation = rotation
+            invalidateBounds()
+        }
     }
 
     /**
@@ -413,6 +487,11 @@ abstract class TransformNode(
         this.isVisible = visible
     }
 
+    /**
+     * Called after [clipBounds] have changed, so the node should clip itself
+     */
+    protected open fun onClipBoundsChanged() {}
+
     protected open fun clipChildren() {
         clipBounds?.let { Utils.clipChildren(this, it) }
     }
@@ -47,6 +47,7 @@ abstract class UiBaseLayout<T : LayoutParams>(
 
     var onAddedToLayoutListener: ((node: Node) -> Unit)? = null
     var onRemovedFromLayoutListener: ((node: Node) -> Unit)? = null
+    var onLayoutListener: (() -> Unit)? = null
 
     val width: Float
         get() = properties.getDouble(PROP_WIDTH, 0.0).toFloat()
@@ -61,6 +62,9 @@ abstract class UiBaseLayout<T : LayoutParams>(
 
     private val childrenBounds = mutableMapOf<TransformNode, AABB>()
 
+    // children whose bounds may have changed since the last measure
+    private val dirtyChildren = mutableSetOf<TransformNode>()
+
     private var handler = Handler(Looper.getMainLooper())
     private var loopStarted = false
 
@@ -107,6 +111,7 @@ abstract class UiBaseLayout<T : LayoutParams>(
             }
         })
         mChildrenList.add(child)
+        dirtyChildren.add(child)
         onAddedToLayoutListener?.invoke(child)
         redrawRequested = true
     }
@@ -122,6 +127,7 @@ abstract class UiBaseLayout<T : LayoutParams>(
             onRemovedFromLayoutListener?.invoke(child)
         }
         childrenBounds.remove(child)
+        dirtyChildren.remove(child)
         redrawRequested = true
     }
 
@@ -130,13 +136,23 @@ abstract class UiBaseLayout<T : LayoutParams>(
     override fun onUpdate(deltaSeconds: Float) {
         super.onUpdate(deltaSeconds)
 
-        // measure the children (their size may have changed) and layout if needed
-        measureChildren()
+        // measure the children that may have changed and layout if needed
+        if (dirtyChildren.isNotEmpty()) {
+            measureChildren()
+        }
         if (redrawRequested) {
             layout()
         }
     }
 
+    override fun onChildBoundsChanged(child: TransformNode) {
+        // not propagating to the parent here, because this layout
+        // invalidates own bounds after re-layout
+        if (child in mChildrenList) {
+            dirtyChildren.add(child)
+        }
+    }
+
     override fun onDestroy() {
         super.onDestroy()
         handler.removeCallbacksAndMessages(null)
@@ -147,6 +163,7 @@ abstract class UiBaseLayout<T : LayoutParams>(
     }
 
     private fun layout() {
+        measureChildren()
         layoutManager.layoutChildren(getLayoutParams(), getChildrenToLayout(), childrenBounds)
         redrawRequested = false
 
@@ -157,16 +174,16 @@ abstract class UiBaseLayout<T : LayoutParams>(
 
         // need to clip materials, because content position has changed
         clipChildren()
+        invalidateBounds()
+        onLayoutListener?.invoke()
     }
 
     /**
-     * Measures the bounds of children nodes; if any bound has changed
-     * it sets the [redrawRequested] flag to true.
+     * Measures the bounds of children nodes that may have changed;
+     * if any bound has changed it sets the [redrawRequested] flag to true.
      */
     private fun measureChildren() {
-        val childrenToLayout = getChildrenToLayout()
-
-        for (node in childrenToLayout) {
+        for (node in dirtyChildren) {
             val oldBounds = childrenBounds[node] ?: AABB()
             val newBounds = node.getBounding()
             childrenBounds[node] = newBounds
@@ -175,6 +192,7 @@ abstract class UiBaseLayout<T : LayoutParams>(
                 redrawRequested = true
             }
         }
+        dirtyChildren.clear()
     }
 
     private fun getChildrenToLayout(): List<TransformNode> {
@@ -90,7 +90,7 @@ open class UiDateTimePickerBaseNode(
     private fun applyLabel(props: Bundle) {
         if (props.containsKey(PROP_LABEL)) {
             view.title.text = props.getString(PROP_LABEL)
-            setNeedsRebuild()
+            setNeedsResize()
         }
     }
 
@@ -104,7 +104,7 @@ open class UiDateTimePickerBaseNode(
                 (view as LinearLayout).orientation = LinearLayout.VERTICAL
             }
 
-            setNeedsRebuild()
+            setNeedsResize()
         }
     }
 
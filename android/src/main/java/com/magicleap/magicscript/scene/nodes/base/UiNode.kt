@@ -76,20 +76,17 @@ abstract class UiNode(
      */
     protected lateinit var view: View
 
-    override var clipBounds: AABB?
-        get() = super.clipBounds
-        set(value) {
-            super.clipBounds = value
-            applyClipBounds()
-        }
-
     private lateinit var viewWrapper: ViewWrapper
     private val handler = Handler(Looper.getMainLooper())
     private var shouldRebuild = false
+    private var shouldResize = false
     private var loadingView = false
     private var renderableCopy: Renderable? = null
     private var renderableLoadRequest: ViewRenderableLoader.LoadRequest? = null
 
+    // true when the renderable has been released and should be loaded on activation
+    private var renderableReleased = false
+
     /**
      * Desired node width and height in meters or equal to [WRAP_CONTENT_DIMENSION]
      * A dimension equal to [WRAP_CONTENT_DIMENSION] means unspecified size that can grow.
@@ -116,6 +113,40 @@ abstract class UiNode(
         }
     }
 
+    /**
+     * Should be called when the size of the node may have changed, but the change
+     * has been applied to the existing [view] (e.g. its content or desired size
+     * has changed), so the node doesn't have to be rebuilt. The view is measured
+     * again with the current [provideDesiredSize] on the next update and the
+     * renderable (which follows the size of the view) is kept.
+     *
+     * @param force whether to force the resize (set this to true when resize is required
+     * beyond the [applyProperties] execution)
+     */
+    fun setNeedsResize(force: Boolean = false) {
+        if (updatingProperties || force) {
+            shouldResize = true
+        }
+    }
+
+    /**
+     * Releases the view renderable of this node, so the memory it holds can be
+     * reclaimed while the node is not displayed (e.g. it has been scrolled out
+     * of a list). The node keeps its size, and the renderable is loaded again
+     * once the node gets activated.
+     */
+    fun releaseRenderable() {
+        renderableLoadRequest?.let {
+            viewRenderableLoader.cancel(it)
+        }
+        renderableLoadRequest = null
+        loadingView = false
+        renderableCopy = null
+        contentNode.renderable = null
+        contentNode.collisionShape = null
+        renderableReleased = true
+    }
+
     open fun disallowInterceptTouchEvent(): Boolean {
         return false
     }
@@ -136,6 +167,10 @@ abstract class UiNode(
 
     override fun applyProperties(props: Bundle) {
         super.applyProperties(props)
+
+        if (rebuildProperties.any { props.containsKey(it) }) {
+            setNeedsRebuild()
+        }
         setEnabled(props)
     }
 
@@ -184,13 +219,25 @@ abstract class UiNode(
         }
     }
 
+    override fun onActivate() {
+        super.onActivate()
+        if (renderableReleased) {
+            renderableReleased = false
+            setNeedsRebuild(true)
+        }
+    }
+
     override fun onUpdate(deltaSeconds: Float) {
         super.onUpdate(deltaSeconds)
 
         if (shouldRebuild && !loadingView) {
             build()
             shouldRebuild = false
+            shouldResize = false
             logMessage("node rebuild, hash:{${this.hashCode()}}")
+        } else if (shouldResize && !shouldRebuild) {
+            shouldResize = false
+            resizeView()
         }
     }
 
@@ -206,6 +253,14 @@ abstract class UiNode(
 
     protected abstract fun provideDesiredSize(): Vector2
 
+    /**
+     * Names of the properties that cannot be applied to the existing [view],
+     * so changing any of them rebuilds the node. Other size affecting
+     * properties should call [setNeedsResize].
+     */
+    protected open val rebuildProperties: Set<String>
+        get() = emptySet()
+
     protected open fun onViewClick() {}
 
     protected open fun onPressChanged(pressed: Boolean) {}
@@ -216,22 +271,11 @@ abstract class UiNode(
      */
     protected open fun setupView() {
         desiredSize = provideDesiredSize()
-        val width = desiredSize.x
-        val height = desiredSize.y
-
-        val widthPx = if (width == WRAP_CONTENT_DIMENSION) {
-            ViewGroup.LayoutParams.WRAP_CONTENT
-        } else {
-            metersToPx(width, context)
-        }
-
-        val heightPx = if (height == WRAP_CONTENT_DIMENSION) {
-            ViewGroup.LayoutParams.WRAP_CONTENT
-        } else {
-            metersToPx(height, context)
-        }
         // we have to set layout params before attaching view to the node
-        view.layoutParams = ViewGroup.LayoutParams(widthPx, heightPx)
+        view.layoutParams = ViewGroup.LayoutParams(
+            dimensionToPx(desiredSize.x),
+            dimensionToPx(desiredSize.y)
+        )
 
         setupViewListeners()
     }
@@ -247,11 +291,25 @@ abstract class UiNode(
     override fun applyAlignment() {
         if (useContentNodeAlignment) {
             Utils.applyContentNodeAlignment(this)
+            return
+        }
+
+        val renderable = renderableCopy
+        if (renderable is ViewRenderable && !loadingView) {
+            renderable.horizontalAlignment =
+                ViewRenderable.HorizontalAlignment.valueOf(horizontalAlignment.name)
+            renderable.verticalAlignment =
+                ViewRenderable.VerticalAlignment.valueOf(verticalAlignment.name)
+            applyClipBounds()
         } else {
             setNeedsRebuild() // need to re-attach the renderable
         }
     }
 
+    override fun onClipBoundsChanged() {
+        applyClipBounds()
+    }
+
     override fun onTransformedLocally() {
         super.onTransformedLocally()
         applyClipBounds()
@@ -303,10 +361,44 @@ abstract class UiNode(
                 onViewLoaded(result.data)
             }
         }.also {
+            it.priorityNode = this
             viewRenderableLoader.loadRenderable(it)
         }
     }
 
+    /**
+     * Measures the [view] again with the current desired size and updates the
+     * [size] of this node. The attached [ViewRenderable] follows the size of
+     * the laid out view, so it doesn't have to be loaded again.
+     */
+    private fun resizeView() {
+        if (!::view.isInitialized) {
+            return
+        }
+        desiredSize = provideDesiredSize()
+        // the view is attached, so we update its params instead of replacing them
+        view.layoutParams.apply {
+            width = dimensionToPx(desiredSize.x)
+            height = dimensionToPx(desiredSize.y)
+        }
+        view.requestLayout()
+
+        val newSize = view.getSizeInMeters(context, desiredSize.x, desiredSize.y)
+        if (newSize != size) {
+            size = newSize
+            invalidateBounds()
+            applyClipBounds()
+        }
+    }
+
+    private fun dimensionToPx(dimension: Float): Int {
+        return if (dimension == WRAP_CONTENT_DIMENSION) {
+            ViewGroup.LayoutParams.WRAP_CONTENT
+        } else {
+            metersToPx(dimension, context)
+        }
+    }
+
     private fun applyClipBounds() {
         nodeClipper.applyClipBounds(this, clipBounds)
     }
@@ -121,11 +121,7 @@ open class UiButtonNode(
                 PROP_TEXT_SIZE,
                 DEFAULT_TEXT_SIZE
             ).toFloat()
-            // padding is added when button width or height is "wrap content"
-            val textHeightPx = Utils.metersToFontPx(textSize, context)
-            val textPaddingHorizontal = (PADDING_FACTOR_HORIZONTAL * textHeightPx).toInt()
-            val textPaddingVertical = (PADDING_FACTOR_VERTICAL * textHeightPx).toInt()
-            setTextPadding(textPaddingHorizontal, textPaddingVertical)
+            applyTextPadding(textSize)
 
             setCharactersSpacing(charactersSpacing)
         }
@@ -149,7 +145,7 @@ open class UiButtonNode(
         super.applyProperties(props)
 
         if (props.containsKey(PROP_WIDTH) || props.containsKey(PROP_HEIGHT)) {
-            setNeedsRebuild()
+            setNeedsResize()
         }
 
         setText(props)
@@ -177,9 +173,9 @@ open class UiButtonNode(
         val text = props.getString(PROP_TEXT)
         if (text != null) {
             (view as CustomButton).text = text
-            // rebuild only if size can be changed
+            // resize only if size can be changed
             if (canResizeOnContentChange()) {
-                setNeedsRebuild()
+                setNeedsResize()
             }
         }
     }
@@ -189,13 +185,22 @@ open class UiButtonNode(
             val textSize = props.getDouble(PROP_TEXT_SIZE).toFloat()
             val size = Utils.metersToFontPx(textSize, view.context).toFloat()
             (view as CustomButton).setTextSize(size)
-            // rebuild only if size can be changed
+            applyTextPadding(textSize)
+            // resize only if size can be changed
             if (canResizeOnContentChange()) {
-                setNeedsRebuild()
+                setNeedsResize()
             }
         }
     }
 
+    private fun applyTextPadding(textSize: Float) {
+        // padding is added when button width or height is "wrap content"
+        val textHeightPx = Utils.metersToFontPx(textSize, context)
+        val textPaddingHorizontal = (PADDING_FACTOR_HORIZONTAL * textHeightPx).toInt()
+        val textPaddingVertical = (PADDING_FACTOR_VERTICAL * textHeightPx).toInt()
+        (view as CustomButton).setTextPadding(textPaddingHorizontal, textPaddingVertical)
+    }
+
     private fun setTextColor(props: Bundle) {
         val color = props.readColor(PROP_TEXT_COLOR)
         if (color != null) {
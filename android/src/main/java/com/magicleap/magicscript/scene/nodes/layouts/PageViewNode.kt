@@ -65,10 +65,10 @@ class PageViewNode(props: ReadableMap, layoutManager: LayoutManager<PageViewLayo
 
     override fun getLayoutParams(): PageViewLayoutParams {
         val visiblePage = properties.getDouble(PROP_VISIBLE_PAGE, DEFAULT_VISIBLE_PAGE).toInt()
-        val defaultItemsPadding = properties.read<Padding>(PROP_DEFAULT_PAGE_PADDING)!!
-        val defaultItemsAlignment = properties.read<Alignment>(PROP_DEFAULT_CONTENT_ALIGNMENT)!!
-        val itemsPadding = properties.read<ItemPaddingMap>(PROP_PAGE_PADDING)
-        val itemsAlignment = properties.read<ItemAlignmentMap>(PROP_PAGE_ALIGNMENT)
+        val defaultItemsPadding = readProperty<Padding>(PROP_DEFAULT_PAGE_PADDING)!!
+        val defaultItemsAlignment = readProperty<Alignment>(PROP_DEFAULT_CONTENT_ALIGNMENT)!!
+        val itemsPadding = readProperty<ItemPaddingMap>(PROP_PAGE_PADDING)
+        val itemsAlignment = readProperty<ItemAlignmentMap>(PROP_PAGE_ALIGNMENT)
 
         val childrenPadding =
             LayoutUtils.createChildrenPaddingMap(
@@ -99,10 +99,10 @@ class UiGridLayout(initProps: ReadableMap, layoutManager: LayoutManager<GridLayo
     }
 
     override fun getLayoutParams(): GridLayoutParams {
-        val defaultItemsPadding = properties.read<Padding>(PROP_DEFAULT_ITEM_PADDING)!!
-        val defaultItemsAlignment = properties.read<Alignment>(PROP_DEFAULT_ITEM_ALIGNMENT)!!
-        val itemsPadding = properties.read<ItemGridPaddingMap>(PROP_ITEM_PADDING)
-        val itemsAlignment = properties.read<ItemGridAlignmentMap>(PROP_ITEM_ALIGNMENT)
+        val defaultItemsPadding = readProperty<Padding>(PROP_DEFAULT_ITEM_PADDING)!!
+        val defaultItemsAlignment = readProperty<Alignment>(PROP_DEFAULT_ITEM_ALIGNMENT)!!
+        val itemsPadding = readProperty<ItemGridPaddingMap>(PROP_ITEM_PADDING)
+        val itemsAlignment = readProperty<ItemGridAlignmentMap>(PROP_ITEM_ALIGNMENT)
 
         val childrenPadding =
             LayoutUtils.createChildrenPaddingMap(
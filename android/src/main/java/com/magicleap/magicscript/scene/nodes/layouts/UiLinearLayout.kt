@@ -77,10 +77,10 @@ class UiLinearLayout(props: ReadableMap, layoutManager: LayoutManager<LinearLayo
 
     override fun getLayoutParams(): LinearLayoutParams {
         val orientation = properties.getString(PROP_ORIENTATION, DEFAULT_ORIENTATION)
-        val defaultItemsPadding = properties.read<Padding>(PROP_DEFAULT_ITEM_PADDING)!!
-        val defaultItemsAlignment = properties.read<Alignment>(PROP_DEFAULT_ITEM_ALIGNMENT)!!
-        val itemsPadding = properties.read<ItemPaddingMap>(PROP_ITEM_PADDING)
-        val itemsAlignment = properties.read<ItemAlignmentMap>(PROP_ITEM_ALIGNMENT)
+        val defaultItemsPadding = readProperty<Padding>(PROP_DEFAULT_ITEM_PADDING)!!
+        val defaultItemsAlignment = readProperty<Alignment>(PROP_DEFAULT_ITEM_ALIGNMENT)!!
+        val itemsPadding = readProperty<ItemPaddingMap>(PROP_ITEM_PADDING)
+        val itemsAlignment = readProperty<ItemAlignmentMap>(PROP_ITEM_ALIGNMENT)
 
         val childrenPadding =
             LayoutUtils.createChildrenPaddingMap(
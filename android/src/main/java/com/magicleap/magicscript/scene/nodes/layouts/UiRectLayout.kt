@@ -59,7 +59,7 @@ class UiRectLayout(
 
     override fun getLayoutParams(): LayoutParams {
         val padding = properties.read(PROP_ITEM_PADDING) ?: Padding()
-        val contentAlignment = properties.read<Alignment>(PROP_CONTENT_ALIGNMENT)!!
+        val contentAlignment = readProperty<Alignment>(PROP_CONTENT_ALIGNMENT)!!
 
         val childrenPadding =
             LayoutUtils.createChildrenPaddingMap(
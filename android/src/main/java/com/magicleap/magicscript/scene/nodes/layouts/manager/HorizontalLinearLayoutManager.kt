@@ -28,6 +28,43 @@ import com.magicleap.magicscript.utils.Vector2
 
 class HorizontalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>() {
 
+    // Running sums of children widths and horizontal paddings, where the value at
+    // index i is the sum over children [0, i), so a child offset is read in O(1)
+    private var widthsPrefixSum = FloatArray(1)
+    private var paddingsPrefixSum = FloatArray(1)
+    private var maxChildHeightWithPadding = 0f
+
+    override fun onPreLayout(
+        children: List<TransformNode>,
+        childrenBounds: Map<TransformNode, AABB>,
+        layoutParams: LayoutParams
+    ) {
+        val count = children.size
+        if (widthsPrefixSum.size < count + 1) {
+            widthsPrefixSum = FloatArray(count + 1)
+            paddingsPrefixSum = FloatArray(count + 1)
+        }
+
+        var maxHeight = 0f
+        for (i in 0 until count) {
+            val child = children[i]
+            val padding = layoutParams.itemsPadding[child]
+            val childSize = childrenBounds[child]?.size()
+            val left = padding?.left ?: 0f
+            val right = padding?.right ?: 0f
+            widthsPrefixSum[i + 1] = widthsPrefixSum[i] + (childSize?.x ?: 0f)
+            paddingsPrefixSum[i + 1] = paddingsPrefixSum[i] + (left + right)
+
+            val top = padding?.top ?: 0f
+            val bottom = padding?.bottom ?: 0f
+            val height = (childSize?.y ?: 0f) + top + bottom
+            if (height > maxHeight) {
+                maxHeight = height
+            }
+        }
+        maxChildHeightWithPadding = maxHeight
+    }
+
     override fun layoutChildren(
         layoutParams: T,
         children: List<TransformNode>,
@@ -36,8 +73,8 @@ class HorizontalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>()
         super.layoutChildren(layoutParams, children, childrenBounds)
 
         val contentSize = Vector2(
-            getContentWidth(layoutParams),
-            getContentHeight(layoutParams)
+            getContentWidth(),
+            getContentHeight()
         )
 
         val layoutSizeLimit = LayoutUtils.calculateLayoutSizeLimit(contentSize, layoutParams.size)
@@ -46,28 +83,21 @@ class HorizontalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>()
             val node = childrenList[i]
             val nodeBounds = childrenBounds.getValue(node)
             val nodeInfo = LayoutUtils.createNodeInfo(i, node, nodeBounds)
-            layoutNode(nodeInfo, layoutParams, childrenBounds, layoutSizeLimit, contentSize)
+            layoutNode(nodeInfo, layoutParams, layoutSizeLimit, contentSize)
         }
     }
 
     private fun layoutNode(
         nodeInfo: NodeInfo,
         layoutParams: LayoutParams,
-        childrenBounds: Map<TransformNode, AABB>,
         layoutSizeLimit: Vector2,
         contentSize: Vector2
     ) {
         val itemPadding = layoutParams.itemsPadding[nodeInfo.node] ?: Padding()
 
         // calculating x position for a child
-        val childrenOnTheLeft = childrenList.take(nodeInfo.index)
-
-        val summaryItemsWidthOnTheLeft =
-            LayoutUtils.getHorizontalBoundsSumOf(childrenOnTheLeft, childrenBounds)
-
-        val paddingSumOnTheLeft =
-            LayoutUtils.getHorizontalPaddingSumOf(childrenOnTheLeft, layoutParams.itemsPadding) +
-                    itemPadding.left
+        val summaryItemsWidthOnTheLeft = widthsPrefixSum[nodeInfo.index]
+        val paddingSumOnTheLeft = paddingsPrefixSum[nodeInfo.index] + itemPadding.left
 
         val offsetX = summaryItemsWidthOnTheLeft + paddingSumOnTheLeft
 
@@ -109,13 +139,13 @@ class HorizontalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>()
 
     override fun getLayoutBounds(layoutParams: T): AABB {
         val width = if (layoutParams.size.x == UiBaseLayout.WRAP_CONTENT_DIMENSION)
-            getContentWidth(layoutParams)
+            getContentWidth()
         else {
             layoutParams.size.x
         }
 
         val height = if (layoutParams.size.y == UiBaseLayout.WRAP_CONTENT_DIMENSION) {
-            getContentHeight(layoutParams)
+            getContentHeight()
         } else {
             layoutParams.size.y
         }
@@ -132,11 +162,8 @@ class HorizontalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>()
             return Float.MAX_VALUE
         }
 
-        val contentWidthNoPadding =
-            LayoutUtils.getHorizontalBoundsSumOf(childrenList, childrenBounds)
-
-        val paddingSum =
-            LayoutUtils.getHorizontalPaddingSumOf(childrenList, layoutParams.itemsPadding)
+        val contentWidthNoPadding = widthsPrefixSum[childrenList.size]
+        val paddingSum = paddingsPrefixSum[childrenList.size]
 
         val scale = (parentWidth - paddingSum) / contentWidthNoPadding
 
@@ -156,26 +183,13 @@ class HorizontalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>()
         }
     }
 
-    private fun getContentWidth(layoutParams: T): Float {
-        val paddingSum =
-            LayoutUtils.getHorizontalPaddingSumOf(childrenList, layoutParams.itemsPadding)
-
-        val boundsSum = LayoutUtils.getHorizontalBoundsSumOf(childrenList, childrenBounds)
-
-        return boundsSum + paddingSum
+    private fun getContentWidth(): Float {
+        val count = childrenList.size
+        return widthsPrefixSum[count] + paddingsPrefixSum[count]
     }
 
-    private fun getContentHeight(layoutParams: T): Float {
-        var maxHeight = 0f
-        for (child in childrenList) {
-            val padding = layoutParams.itemsPadding[child] ?: Padding()
-            val childHeight = childrenBounds[child]?.size()?.y ?: 0f
-            val height = childHeight + padding.top + padding.bottom
-            if (height > maxHeight) {
-                maxHeight = height
-            }
-        }
-        return maxHeight
+    private fun getContentHeight(): Float {
+        return maxChildHeightWithPadding
     }
 
 }
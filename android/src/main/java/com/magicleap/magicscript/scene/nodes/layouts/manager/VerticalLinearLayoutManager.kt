@@ -28,6 +28,43 @@ import com.magicleap.magicscript.utils.Vector2
 
 open class VerticalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>() {
 
+    // Running sums of children heights and vertical paddings, where the value at
+    // index i is the sum over children [0, i), so a child offset is read in O(1)
+    private var heightsPrefixSum = FloatArray(1)
+    private var paddingsPrefixSum = FloatArray(1)
+    private var maxChildWidthWithPadding = 0f
+
+    override fun onPreLayout(
+        children: List<TransformNode>,
+        childrenBounds: Map<TransformNode, AABB>,
+        layoutParams: LayoutParams
+    ) {
+        val count = children.size
+        if (heightsPrefixSum.size < count + 1) {
+            heightsPrefixSum = FloatArray(count + 1)
+            paddingsPrefixSum = FloatArray(count + 1)
+        }
+
+        var maxWidth = 0f
+        for (i in 0 until count) {
+            val child = children[i]
+            val padding = layoutParams.itemsPadding[child]
+            val childSize = childrenBounds[child]?.size()
+            val top = padding?.top ?: 0f
+            val bottom = padding?.bottom ?: 0f
+            heightsPrefixSum[i + 1] = heightsPrefixSum[i] + (childSize?.y ?: 0f)
+            paddingsPrefixSum[i + 1] = paddingsPrefixSum[i] + (top + bottom)
+
+            val left = padding?.left ?: 0f
+            val right = padding?.right ?: 0f
+            val width = (childSize?.x ?: 0f) + left + right
+            if (width > maxWidth) {
+                maxWidth = width
+            }
+        }
+        maxChildWidthWithPadding = maxWidth
+    }
+
     override fun layoutChildren(
         layoutParams: T,
         children: List<TransformNode>,
@@ -36,8 +73,8 @@ open class VerticalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>
         super.layoutChildren(layoutParams, children, childrenBounds)
 
         val contentSize = Vector2(
-            getContentWidth(layoutParams),
-            getContentHeight(layoutParams)
+            getContentWidth(),
+            getContentHeight()
         )
 
         val layoutSizeLimit = LayoutUtils.calculateLayoutSizeLimit(contentSize, layoutParams.size)
@@ -46,14 +83,13 @@ open class VerticalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>
             val node = childrenList[i]
             val nodeBounds = childrenBounds.getValue(node)
             val nodeInfo = LayoutUtils.createNodeInfo(i, node, nodeBounds)
-            layoutNode(nodeInfo, layoutParams, childrenBounds, layoutSizeLimit, contentSize)
+            layoutNode(nodeInfo, layoutParams, layoutSizeLimit, contentSize)
         }
     }
 
     private fun layoutNode(
         nodeInfo: NodeInfo,
         layoutParams: LayoutParams,
-        childrenBounds: Map<TransformNode, AABB>,
         layoutSizeLimit: Vector2,
         contentSize: Vector2
     ) {
@@ -78,15 +114,8 @@ open class VerticalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>
         }
 
         // calculating y position for a child
-
-        val childrenAbove = childrenList.take(nodeInfo.index)
-
-        val summaryItemsHeightAbove =
-            LayoutUtils.getVerticalBoundsSumOf(childrenAbove, childrenBounds)
-
-        val paddingSumAbove =
-            LayoutUtils.getVerticalPaddingSumOf(childrenAbove, layoutParams.itemsPadding) +
-                    itemPadding.top
+        val summaryItemsHeightAbove = heightsPrefixSum[nodeInfo.index]
+        val paddingSumAbove = paddingsPrefixSum[nodeInfo.index] + itemPadding.top
 
         val offsetY = -(summaryItemsHeightAbove + paddingSumAbove)
 
@@ -110,13 +139,13 @@ open class VerticalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>
 
     override fun getLayoutBounds(layoutParams: T): AABB {
         val width = if (layoutParams.size.x == UiBaseLayout.WRAP_CONTENT_DIMENSION)
-            getContentWidth(layoutParams)
+            getContentWidth()
         else {
             layoutParams.size.x
         }
 
         val height = if (layoutParams.size.y == UiBaseLayout.WRAP_CONTENT_DIMENSION) {
-            getContentHeight(layoutParams)
+            getContentHeight()
         } else {
             layoutParams.size.y
         }
@@ -144,11 +173,8 @@ open class VerticalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>
             return Float.MAX_VALUE
         }
 
-        val contentHeightNoPadding =
-            LayoutUtils.getVerticalBoundsSumOf(childrenList, childrenBounds)
-
-        val paddingSum =
-            LayoutUtils.getVerticalPaddingSumOf(childrenList, layoutParams.itemsPadding)
+        val contentHeightNoPadding = heightsPrefixSum[childrenList.size]
+        val paddingSum = paddingsPrefixSum[childrenList.size]
         val scale = (parentHeight - paddingSum) / contentHeightNoPadding
 
         val child = childrenList[childIdx]
@@ -156,26 +182,13 @@ open class VerticalLinearLayoutManager<T : LayoutParams> : SizedLayoutManager<T>
         return childHeight * scale
     }
 
-    private fun getContentWidth(layoutParams: LayoutParams): Float {
-        var maxWidth = 0f
-        for (child in childrenList) {
-            val padding = layoutParams.itemsPadding[child] ?: Padding()
-            val childWidth = childrenBounds[child]?.size()?.x ?: 0f
-            val width = childWidth + padding.left + padding.right
-            if (width > maxWidth) {
-                maxWidth = width
-            }
-        }
-        return maxWidth
+    private fun getContentWidth(): Float {
+        return maxChildWidthWithPadding
     }
 
-    private fun getContentHeight(layoutParams: LayoutParams): Float {
-        val paddingSum =
-            LayoutUtils.getVerticalPaddingSumOf(childrenList, layoutParams.itemsPadding)
-
-        val boundsSum = LayoutUtils.getVerticalBoundsSumOf(childrenList, childrenBounds)
-
-        return boundsSum + paddingSum
+    private fun getContentHeight(): Float {
+        val count = childrenList.size
+        return heightsPrefixSum[count] + paddingsPrefixSum[count]
     }
 
 }
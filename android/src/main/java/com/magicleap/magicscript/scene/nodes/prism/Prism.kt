@@ -34,9 +34,11 @@ import com.google.ar.sceneform.ux.TransformationSystem
 import com.magicleap.magicscript.ar.AnchorCreator
 import com.magicleap.magicscript.ar.ArResourcesProvider
 import com.magicleap.magicscript.ar.BoundingBox
+import com.magicleap.magicscript.ar.CameraMovement
 import com.magicleap.magicscript.ar.CustomArFragment
 import com.magicleap.magicscript.ar.renderable.CubeRenderableBuilder
 import com.magicleap.magicscript.ar.renderable.ModelRenderableLoader
+import com.magicleap.magicscript.ar.renderable.ViewRenderableLoader
 import com.magicleap.magicscript.scene.ReactScene
 import com.magicleap.magicscript.scene.nodes.base.ReactNode
 import com.magicleap.magicscript.scene.nodes.base.TransformNode
@@ -48,13 +50,15 @@ import kotlin.math.sqrt
 class Prism(
     initProps: ReadableMap,
     context: Context,
+    private val viewLoader: ViewRenderableLoader,
     private val modelLoader: ModelRenderableLoader,
     private val cubeBuilder: CubeRenderableBuilder,
     private val anchorCreator: AnchorCreator,
     private val arResourcesProvider: ArResourcesProvider,
     private val appInfoProvider: AppInfoProvider
 ) : AnchorNode(), ReactNode, ArResourcesProvider.CameraUpdatedListener,
-    ArResourcesProvider.TransformationSystemListener, ArResourcesProvider.ArLoadedListener {
+    ArResourcesProvider.TransformationSystemListener, ArResourcesProvider.ArLoadedListener,
+    ArResourcesProvider.AnchorNodeListener {
 
     companion object {
         const val PROP_SIZE = "size"
@@ -73,6 +77,9 @@ class Prism(
 
         private const val MENU_MARGIN_BOTTOM = 0.05f
         private const val MOVE_SENSITIVITY = 1f
+
+        // number of camera updates between anchor node lookups (~0.5 s at 60 fps)
+        private const val ANCHOR_LOOKUP_INTERVAL = 30
     }
 
     val scale: Vector3 get() = container?.localScale ?: Vector3.one()
@@ -96,10 +103,14 @@ class Prism(
     private var manualRotationOffset = Quaternion.identity()
     private var requestedAnchorPose: Pose? = null
     private var requestedAnchorUuid: String? = null
+    private var anchorLookupCountdown = 0
     private var lastCreatedAnchor: Anchor? = null
     private var requestedScale: Vector3? = null
     private var interactions = Interactions()
 
+    // camera pose at the last menu adjustment or null if the menu should be adjusted
+    private var menuCameraPose: Pose? = null
+
     private var editMode: Boolean = false
         set(value) {
             if (field != value) {
@@ -109,7 +120,8 @@ class Prism(
         }
 
     init {
-        arResourcesProvider.addCameraUpdatedListener(this)
+        // adjusting the menu is expensive, so it may be deferred to next frames
+        arResourcesProvider.addCameraUpdatedListener(this, deferrable = true)
         arResourcesProvider.addTransformationSystemListener(this)
         arResourcesProvider.addArLoadedListener(this)
 
@@ -117,7 +129,7 @@ class Prism(
             ?: Utils.createPose(Vector3.zero(), Quaternion.identity())
 
         val title = appInfoProvider.getAppName()
-        menuNode = PrismMenu(context, arResourcesProvider, title)
+        menuNode = PrismMenu(context, viewLoader, title)
         menuNode.isVisible = false
 
         properties.putDefault(PROP_POSITION, arrayListOf(0.0, 0.0, 0.0))
@@ -276,8 +288,12 @@ class Prism(
             movePrism(cameraPose, oldCameraPose)
         }
 
-        adjustMenuVisibility()
-        adjustMenuRotation()
+        val menuPose = menuCameraPose
+        if (editMode || menuPose == null || CameraMovement.between(menuPose, cameraPose).isNoticeable()) {
+            adjustMenuVisibility()
+            adjustMenuRotation()
+            menuCameraPose = cameraPose
+        }
 
         requestedAnchorPose?.let {
             if (!editMode) {
@@ -286,9 +302,18 @@ class Prism(
         }
 
         requestedAnchorUuid?.let {
-            tryToAnchorAtUuid(it)
+            // fallback for anchor nodes that were not registered in the provider
+            if (--anchorLookupCountdown <= 0) {
+                anchorLookupCountdown = ANCHOR_LOOKUP_INTERVAL
+                lookUpAnchorNode(it)?.let { anchorNode -> anchorToNode(anchorNode) }
+            }
         }
+    }
 
+    override fun onAnchorNodeAvailable(uuid: String, anchorNode: AnchorNode) {
+        if (uuid == requestedAnchorUuid) {
+            anchorToNode(anchorNode)
+        }
     }
 
     override fun onHostPause() {
@@ -311,6 +336,7 @@ class Prism(
         arResourcesProvider.removeCameraUpdatedListener(this)
         arResourcesProvider.removeTransformationSystemListener(this)
         arResourcesProvider.removeArLoadedListener(this)
+        cancelAnchorUuidRequest()
     }
 
     // Prism can also be anchored through this function when initial placement is active
@@ -318,7 +344,7 @@ class Prism(
         super.setAnchor(anchor)
 
         requestedAnchorPose = null
-        requestedAnchorUuid = null
+        cancelAnchorUuidRequest()
 
         adjustMenuRotation()
         adjustMenuPosition()
@@ -342,6 +368,9 @@ class Prism(
     }
 
     private fun adjustMenuPosition() {
+        // the prism has changed, so the menu visibility and rotation should be refreshed
+        menuCameraPose = null
+
         val scaleY = container?.localScale?.y ?: 1f
         val posY = (size.y * scaleY) / 2 + MENU_MARGIN_BOTTOM
         menuNode.localPosition = Vector3(0f, posY, 0f).rotatedBy(worldRotation.inverted())
@@ -525,15 +554,50 @@ class Prism(
     }
 
     private fun tryToAnchorAtUuid(anchorUuid: String) {
-        requestedAnchorUuid = anchorUuid
+        cancelAnchorUuidRequest()
 
-        val anchorNode = scene?.findByName(anchorUuid) as AnchorNode?
-        anchorNode?.anchor?.let {
-            anchor = it
-            requestedAnchorUuid = null
+        val anchorNode = lookUpAnchorNode(anchorUuid)
+        if (anchorNode != null) {
+            anchor = anchorNode.anchor
+        } else {
+            // the anchor node may be registered or added to the scene later,
+            // so we wait for it and periodically search for it on camera updates
+            requestedAnchorUuid = anchorUuid
+            anchorLookupCountdown = ANCHOR_LOOKUP_INTERVAL
+            arResourcesProvider.addAnchorNodeListener(anchorUuid, this)
         }
     }
 
+    /**
+     * Returns the anchored node with [anchorUuid] from the provider's registry
+     * or from the scene (the latter is registered, so next lookups are cheap)
+     */
+    private fun lookUpAnchorNode(anchorUuid: String): AnchorNode? {
+        arResourcesProvider.findAnchorNode(anchorUuid)?.let {
+            return it
+        }
+        val arScene = scene ?: arResourcesProvider.getArScene()
+        val sceneNode = arScene?.findByName(anchorUuid) as? AnchorNode
+        if (sceneNode?.anchor == null) {
+            return null
+        }
+        arResourcesProvider.registerAnchorNode(anchorUuid, sceneNode)
+        return sceneNode
+    }
+
+    private fun anchorToNode(anchorNode: AnchorNode) {
+        val foundAnchor = anchorNode.anchor ?: return
+        cancelAnchorUuidRequest()
+        anchor = foundAnchor
+    }
+
+    private fun cancelAnchorUuidRequest() {
+        requestedAnchorUuid?.let {
+            arResourcesProvider.removeAnchorNodeListener(it, this)
+        }
+        requestedAnchorUuid = null
+    }
+
     private fun clipContent() {
         val min = Vector3(-size.x / 2, -size.y / 2, -size.z / 2)
         val max = Vector3(size.x / 2, size.y / 2, size.z / 2)
@@ -155,6 +155,7 @@ class PrismContentNode(
                 }
             }
         }.also {
+            it.priorityNode = this
             cubeBuilder.buildRenderable(it)
         }
     }
@@ -177,6 +178,7 @@ class PrismContentNode(
                     }
                 }
             }.also {
+                it.priorityNode = this
                 modelLoader.loadRenderable(it)
             }
     }
@@ -21,9 +21,8 @@ import android.animation.ValueAnimator
 import android.content.Context
 import com.facebook.react.bridge.JavaOnlyMap
 import com.google.ar.sceneform.math.Vector3
-import com.magicleap.magicscript.ar.ArResourcesProvider
 import com.magicleap.magicscript.ar.clip.TextureClipper
-import com.magicleap.magicscript.ar.renderable.ViewRenderableLoaderImpl
+import com.magicleap.magicscript.ar.renderable.ViewRenderableLoader
 import com.magicleap.magicscript.font.providers.AndroidFontProvider
 import com.magicleap.magicscript.font.providers.FontProviderImpl
 import com.magicleap.magicscript.icons.DefaultIconsProvider
@@ -36,7 +35,7 @@ import com.magicleap.magicscript.utils.SimpleAnimatorListener
 
 class PrismMenu(
     context: Context,
-    arResourcesProvider: ArResourcesProvider,
+    viewRenderableLoader: ViewRenderableLoader,
     private var title: String
 ) : GroupNode(JavaOnlyMap()) {
 
@@ -62,7 +61,7 @@ class PrismMenu(
         label = UiTextNode(
             initProps = getLabelProps(),
             context = context,
-            viewRenderableLoader = ViewRenderableLoaderImpl(context, arResourcesProvider),
+            viewRenderableLoader = viewRenderableLoader,
             nodeClipper = TextureClipper(),
             fontProvider = FontProviderImpl(context, AndroidFontProvider())
         )
@@ -70,7 +69,7 @@ class PrismMenu(
         buttonEdit = UiButtonNode(
             initProps = getButtonProps(),
             context = context,
-            viewRenderableLoader = ViewRenderableLoaderImpl(context, arResourcesProvider),
+            viewRenderableLoader = viewRenderableLoader,
             nodeClipper = TextureClipper(),
             fontProvider = FontProviderImpl(context, AndroidFontProvider()),
             iconsRepo = IconsRepositoryImpl(
@@ -106,6 +106,10 @@ open class UiToggleNode(
         return Vector2(WRAP_CONTENT_DIMENSION, WRAP_CONTENT_DIMENSION)
     }
 
+    // the nested views are set up once for the type and height of the toggle
+    override val rebuildProperties: Set<String>
+        get() = setOf(PROP_HEIGHT, PROP_TYPE)
+
     override fun setupView() {
         val textView = LayoutInflater.from(context).inflate(R.layout.toggle_text, null) as TextView
         val imageView =
@@ -131,9 +135,6 @@ open class UiToggleNode(
     override fun applyProperties(props: Bundle) {
         super.applyProperties(props)
 
-        if (props.containsKey(PROP_HEIGHT) || props.containsKey(PROP_TYPE)) {
-            setNeedsRebuild()
-        }
         setIsChecked(props)
         setText(props)
         setTextSize(props)
@@ -191,7 +192,7 @@ open class UiToggleNode(
         val text = properties.getString(PROP_TEXT)
         if (text != null) {
             toggleViewManager.setText(text)
-            setNeedsRebuild()
+            setNeedsResize()
         }
     }
 
@@ -200,7 +201,7 @@ open class UiToggleNode(
             val sizeMeters = props.getDouble(PROP_TEXT_SIZE).toFloat()
             val size = Utils.metersToFontPx(sizeMeters, view.context)
             toggleViewManager.setTextSize(size)
-            setNeedsRebuild()
+            setNeedsResize()
         }
     }
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.scene.nodes.video
+
+import android.media.MediaPlayer
+import com.magicleap.magicscript.utils.logMessage
+
+/**
+ * Media players pool that holds at most [maxPlayers] players (decoders).
+ *
+ * Returned players are reset and reused instead of being released. When all
+ * of the players are in use, the least recently used one is evicted from its
+ * current client and handed over.
+ */
+class BoundedMediaPlayerPool @JvmOverloads constructor(
+    private val maxPlayers: Int = DEFAULT_MAX_PLAYERS,
+    private val playerFactory: () -> MediaPlayer = { MediaPlayer() }
+) : MediaPlayerPool {
+
+    companion object {
+        const val DEFAULT_MAX_PLAYERS = 4
+    }
+
+    // state of the players in the least recently used order
+    private val players = LinkedHashMap<MediaPlayer, PlayerState>(maxPlayers, 0.75f, true)
+
+    init {
+        require(maxPlayers > 0) { "maxPlayers should be greater than 0" }
+    }
+
+    val playersCount: Int
+        get() = players.size
+
+    val playersInUseCount: Int
+        get() = players.values.count { it.inUse }
+
+    override fun acquireMediaPlayer(onEvicted: () -> Unit): MediaPlayer {
+        val idlePlayer = players.entries.lastOrNull { !it.value.inUse }?.key
+        val player = when {
+            idlePlayer != null -> idlePlayer
+            players.size < maxPlayers -> playerFactory()
+            else -> evictLeastRecentlyUsed()
+        }
+        players[player] = PlayerState(inUse = true, onEvicted = onEvicted)
+        return player
+    }
+
+    override fun onMediaPlayerUsed(mediaPlayer: MediaPlayer) {
+        // access order map: reading moves the player to the end
+        players[mediaPlayer]
+    }
+
+    override fun releaseMediaPlayer(mediaPlayer: MediaPlayer) {
+        val state = players[mediaPlayer] ?: return
+        state.inUse = false
+        state.onEvicted = null
+        resetPlayer(mediaPlayer)
+    }
+
+    override fun destroy() {
+        players.keys.forEach { it.release() }
+        players.clear()
+    }
+
+    private fun evictLeastRecentlyUsed(): MediaPlayer {
+        val (player, state) = players.entries.first()
+        logMessage("media players limit ($maxPlayers) reached, evicting the least recently used")
+        state.onEvicted?.invoke()
+        resetPlayer(player)
+        return player
+    }
+
+    private fun resetPlayer(mediaPlayer: MediaPlayer) {
+        mediaPlayer.setOnPreparedListener(null)
+        mediaPlayer.setOnTimedTextListener(null)
+        try {
+            // the player goes to idle state, so it can be used for another source
+            mediaPlayer.reset()
+        } catch (e: IllegalStateException) {
+            logMessage("cannot reset media player: $e", warn = true)
+        }
+    }
+
+    private class PlayerState(var inUse: Boolean, var onEvicted: (() -> Unit)?)
+
+}
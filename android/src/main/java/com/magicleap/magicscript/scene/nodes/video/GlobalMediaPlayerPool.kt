@@ -1,40 +0,0 @@
-/*
- * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *     http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package com.magicleap.magicscript.scene.nodes.video
-
-import android.media.MediaPlayer
-
-object GlobalMediaPlayerPool : MediaPlayerPool {
-
-    private val mediaPlayers = ArrayList<MediaPlayer?>()
-
-    override fun destroy() {
-        mediaPlayers.forEachIndexed { index, player ->
-            if (player != null) {
-                player.release()
-                mediaPlayers[index] = null
-            }
-        }
-    }
-
-    override fun createMediaPlayer(): MediaPlayer {
-        // may be null if file not exists
-        val mediaPlayer = MediaPlayer()
-        mediaPlayers.add(mediaPlayer)
-        return mediaPlayer
-    }
-}
@@ -4,8 +4,26 @@ import android.media.MediaPlayer
 
 interface MediaPlayerPool {
 
-    fun createMediaPlayer(): MediaPlayer
+    /**
+     * Returns a media player in the idle state. The player is reused if possible,
+     * so it should be returned with [releaseMediaPlayer] instead of being released.
+     *
+     * @param onEvicted called when the player has been taken back by the pool
+     * (to be used by another client) because the maximum number of players was reached
+     */
+    fun acquireMediaPlayer(onEvicted: () -> Unit): MediaPlayer
+
+    /**
+     * Should be called when the [mediaPlayer] is used (e.g. started),
+     * so it's the last one to be evicted
+     */
+    fun onMediaPlayerUsed(mediaPlayer: MediaPlayer)
+
+    /**
+     * Returns the [mediaPlayer] to the pool, so it can be reused
+     */
+    fun releaseMediaPlayer(mediaPlayer: MediaPlayer)
 
     fun destroy()
 
-}
\ No newline at end of file
+}
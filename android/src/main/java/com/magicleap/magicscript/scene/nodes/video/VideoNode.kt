@@ -73,13 +73,6 @@ class VideoNode(
 
     var onVideoPreparedListener: (() -> Unit)? = null
 
-    override var clipBounds: AABB?
-        get() = super.clipBounds
-        set(value) {
-            super.clipBounds = value
-            applyClipBounds()
-        }
-
     private var renderableLoadRequest: RenderableLoadRequest<ModelRenderable>? = null
     private var renderableCopy: Renderable? = null
     // width and height are determined by ExternalTexture size which is 1m x 1m
@@ -122,6 +115,10 @@ class VideoNode(
         }
     }
 
+    override fun onClipBoundsChanged() {
+        applyClipBounds()
+    }
+
     override fun onTransformedLocally() {
         super.onTransformedLocally()
         applyClipBounds()
@@ -259,7 +256,7 @@ class VideoNode(
                         },
                         surface = texture.surface,
                         onLoadedListener = {
-                            onVideoPreparedListener?.invoke()
+                            onVideoLoaded()
                             createSubtitles()
                         })
                 } else {
@@ -271,7 +268,7 @@ class VideoNode(
                         uri = videoUri,
                         surface = texture.surface,
                         onLoadedListener = {
-                            onVideoPreparedListener?.invoke()
+                            onVideoLoaded()
                         })
                 }
 
@@ -294,12 +291,25 @@ class VideoNode(
                     applyClipBounds()
                 }
             }.also {
+                it.priorityNode = this
                 videoRenderableLoader.loadRenderable(it)
             }
 
         }
     }
 
+    private fun onVideoLoaded() {
+        onVideoPreparedListener?.invoke()
+        // start requested while the video was loading
+        if (lastUserAction == ACTION_START) {
+            try {
+                videoPlayer.start()
+            } catch (exception: IllegalStateException) {
+                logMessage("cannot start loaded video: $exception", warn = true)
+            }
+        }
+    }
+
     // changing video size by scaling the content node
     private fun setSize(props: Bundle) {
         readVideoSize(props)?.let { videoSize ->
@@ -324,6 +334,15 @@ class VideoNode(
         val action = props.getString(PROP_ACTION)
         lastUserAction = action ?: lastUserAction
         if (!videoPlayer.isReady) {
+            if (action == ACTION_START) {
+                // the player may have been taken over by another video,
+                // the video is started once it's loaded again
+                try {
+                    videoPlayer.reloadIfEvicted()
+                } catch (e: Exception) {
+                    logMessage("Error reloading video: $e", true)
+                }
+            }
             return
         }
         try {
@@ -42,6 +42,13 @@ interface VideoPlayer {
 
     fun release()
 
+    /**
+     * Loads the last video again if the media player has been taken over
+     * by another video (see [MediaPlayerPool])
+     */
+    @Throws(Exception::class)
+    fun reloadIfEvicted()
+
     fun seekTo(millis: Int)
 
     fun clearTimedTextListener()
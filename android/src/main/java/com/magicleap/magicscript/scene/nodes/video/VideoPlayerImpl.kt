@@ -32,23 +32,32 @@ import com.magicleap.magicscript.utils.logMessage
 
 class VideoPlayerImpl(
         private val context: Context,
-        private val fileProvider: FileProvider
+        private val fileProvider: FileProvider,
+        private val mediaPlayerPool: MediaPlayerPool
 ) : VideoPlayer, MediaPlayer.OnPreparedListener {
 
-    private var mediaPlayer = GlobalMediaPlayerPool.createMediaPlayer()
+    // acquired from the pool on the first load, null after release or eviction
+    private var player: MediaPlayer? = null
     private var onLoadedListener: (() -> Unit)? = null
     private var ready = false
 
+    // loads the last video again, e.g. after the media player has been evicted
+    private var reloadLastVideo: (() -> Unit)? = null
+
+    private val mediaPlayer: MediaPlayer
+        @Throws(IllegalStateException::class)
+        get() = player ?: throw IllegalStateException("media player has been released")
+
     override var volume: Float = 1.0F
         set(value) {
             field = value.coerceIn(0F, 1F)
-            mediaPlayer.setVolume(field, field)
+            player?.setVolume(field, field)
         }
 
     override var looping: Boolean = false
         set(value) {
             field = value
-            mediaPlayer.isLooping = value
+            player?.isLooping = value
         }
 
     override val isPlaying: Boolean
@@ -60,6 +69,9 @@ class VideoPlayerImpl(
         get() = ready
 
     override fun onPrepared(mp: MediaPlayer?) {
+        if (mp !== player) {
+            return // the player has been evicted or released in the meantime
+        }
         mediaPlayer.seekTo(0) // to show first video frame instead of black texture
         ready = true
         onLoadedListener?.invoke()
@@ -68,8 +80,18 @@ class VideoPlayerImpl(
     @Throws(Exception::class)
     override fun loadVideo(uri: Uri, subtitlesPath: Uri?, onSubtitleChangeListener: ((String) -> Unit)?, surface: Surface, onLoadedListener: () -> Unit) {
         ready = false
-        mediaPlayer.release() // We have to release media player and create new one to add new subtitles
-        mediaPlayer = GlobalMediaPlayerPool.createMediaPlayer()
+        reloadLastVideo = {
+            loadVideo(uri, subtitlesPath, onSubtitleChangeListener, surface, onLoadedListener)
+        }
+        // resetting the player (instead of creating a new one) also removes previous subtitles
+        val mediaPlayer = player?.apply {
+            reset()
+            setOnTimedTextListener(null)
+        } ?: acquireMediaPlayer()
+        // reset() clears the player settings
+        mediaPlayer.setVolume(volume, volume)
+        mediaPlayer.isLooping = looping
+
         val path = uri.toString()
         if (path.startsWith("http")) {
             mediaPlayer.setDataSource(path) // load from URL
@@ -86,8 +108,29 @@ class VideoPlayerImpl(
         }
     }
 
+    @Throws(Exception::class)
+    override fun reloadIfEvicted() {
+        if (player == null) {
+            reloadLastVideo?.invoke()
+        }
+    }
+
+    private fun acquireMediaPlayer(): MediaPlayer {
+        val mediaPlayer = mediaPlayerPool.acquireMediaPlayer(onEvicted = {
+            logMessage("media player taken over by another video", warn = true)
+            ready = false
+            player = null
+        })
+        player = mediaPlayer
+        return mediaPlayer
+    }
+
     private fun addSubtitles(subtitlesPath: Uri, onSubtitleChangeListener: ((String) -> Unit)?) {
+        val requestedPlayer = player
         fileProvider.provideFile(subtitlesPath) {
+            if (player !== requestedPlayer) {
+                return@provideFile // another video has been loaded in the meantime
+            }
             Handler(Looper.getMainLooper()).post {
                 addTimedTextPath(Uri.fromFile(it), onSubtitleChangeListener)
             }
@@ -103,6 +146,7 @@ class VideoPlayerImpl(
     @Throws(IllegalStateException::class)
     override fun start() {
         mediaPlayer.start()
+        mediaPlayerPool.onMediaPlayerUsed(mediaPlayer)
     }
 
     @Throws(IllegalStateException::class)
@@ -117,10 +161,16 @@ class VideoPlayerImpl(
     }
 
     override fun release() {
-        mediaPlayer.release()
+        ready = false
+        reloadLastVideo = null
+        player?.let {
+            mediaPlayerPool.releaseMediaPlayer(it)
+        }
+        player = null
     }
 
     private fun addTimedTextPath(path: Uri, onTextChangedListener: ((String) -> Unit)?) {
+        val mediaPlayer = player ?: return
         try {
             if (Build.VERSION.SDK_INT >= 28) {
                 mediaPlayer.addTimedTextSource(context, path, MIMETYPE_TEXT_SUBRIP)
@@ -149,10 +199,10 @@ class VideoPlayerImpl(
     }
 
     override fun seekTo(millis: Int) {
-        mediaPlayer.seekTo(millis)
+        player?.seekTo(millis)
     }
 
     override fun clearTimedTextListener() {
-        mediaPlayer.setOnTimedTextListener(null)
+        player?.setOnTimedTextListener(null)
     }
 }
\ No newline at end of file
@@ -269,13 +269,18 @@ class Utils {
             val scaleY = 1 / scale.y
             val scaleZ = 1 / scale.z
 
-            val localBounds = clipBounds
-                .translated(-parent.getContentPosition())
-                .scaled(scaleX, scaleY, scaleZ)
+            val translatedBounds = clipBounds.translated(-parent.getContentPosition())
+            val localBounds = if (scaleX == 1f && scaleY == 1f && scaleZ == 1f) {
+                translatedBounds
+            } else {
+                translatedBounds.scaled(scaleX, scaleY, scaleZ)
+            }
 
-            parent.contentNode.children
-                .filterIsInstance<TransformNode>()
-                .forEach { it.clipBounds = localBounds }
+            // children with unchanged clip bounds skip their subtrees
+            val children = parent.contentNode.children
+            for (i in children.indices) {
+                (children[i] as? TransformNode)?.clipBounds = localBounds
+            }
         }
 
         fun createPose(position: Vector3, rotation: Quaternion): Pose {
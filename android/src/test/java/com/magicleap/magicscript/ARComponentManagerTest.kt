@@ -20,9 +20,11 @@ import androidx.test.core.app.ApplicationProvider
 import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.bridge.ReactApplicationContext
 import com.magicleap.magicscript.ar.ArResourcesProvider
+import com.magicleap.magicscript.ar.renderable.ColorMaterialCache
 import com.magicleap.magicscript.scene.ReactScene
 import com.magicleap.magicscript.scene.UiNodesManager
 import com.magicleap.magicscript.scene.nodes.*
+import com.magicleap.magicscript.scene.nodes.base.TransformNode
 import com.magicleap.magicscript.scene.nodes.button.UiButtonNode
 import com.magicleap.magicscript.scene.nodes.dropdown.UiDropdownListItemNode
 import com.magicleap.magicscript.scene.nodes.dropdown.UiDropdownListNode
@@ -35,16 +37,14 @@ import com.magicleap.magicscript.scene.nodes.toggle.ToggleGroupNode
 import com.magicleap.magicscript.scene.nodes.toggle.UiToggleNode
 import com.magicleap.magicscript.scene.nodes.video.MediaPlayerPool
 import com.magicleap.magicscript.scene.nodes.video.VideoNode
-import com.nhaarman.mockitokotlin2.eq
-import com.nhaarman.mockitokotlin2.isA
-import com.nhaarman.mockitokotlin2.verify
-import com.nhaarman.mockitokotlin2.whenever
+import com.nhaarman.mockitokotlin2.*
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mock
 import org.mockito.MockitoAnnotations
 import org.robolectric.RobolectricTestRunner
+import org.robolectric.shadows.ShadowLooper
 
 @RunWith(RobolectricTestRunner::class)
 class ARComponentManagerTest {
@@ -125,6 +125,25 @@ class ARComponentManagerTest {
         verify(mediaPlayerPool).destroy()
     }
 
+    @Test
+    fun `should unregister color material cache on reload`() {
+        manager.onCatalystInstanceDestroy()
+
+        verify(arResourcesProvider).removeArLoadedListener(isA<ColorMaterialCache>())
+    }
+
+    @Test
+    fun `should not register new AR listeners when creating and removing lines`() {
+        repeat(1000) { index ->
+            val nodeId = index.toString()
+            manager.createLineNode(JavaOnlyMap(), nodeId)
+            manager.removeChildNodeFromRoot(nodeId)
+        }
+
+        // only the material cache shared by cube and line builders
+        verify(arResourcesProvider, times(1)).addArLoadedListener(isA<ColorMaterialCache>())
+    }
+
     // region Nodes
 
     @Test
@@ -560,4 +579,87 @@ class ARComponentManagerTest {
 
     // endregion
 
+    // region Mutations
+
+    @Test
+    fun `should create node from mutation`() {
+        val mutations = reactArrayOf(
+            reactMapOf("op", "create", "type", "button", "id", "1", "props", reactMapOf())
+        )
+
+        manager.applyMutations(mutations)
+
+        verify(nodesManager).registerNode(isA<UiButtonNode>(), eq("1"))
+    }
+
+    @Test
+    fun `should apply mutations in order`() {
+        val props = reactMapOf("text", "abc")
+        val mutations = reactArrayOf(
+            reactMapOf("op", "create", "type", "view", "id", "1", "props", reactMapOf()),
+            reactMapOf("op", "create", "type", "text", "id", "2", "props", reactMapOf()),
+            reactMapOf("op", "add", "id", "2", "parentId", "1"),
+            reactMapOf("op", "add", "id", "1"),
+            reactMapOf("op", "update", "id", "2", "props", props),
+            reactMapOf("op", "subscribe", "id", "2", "event", "onActivate"),
+            reactMapOf("op", "remove", "id", "2")
+        )
+
+        manager.applyMutations(mutations)
+
+        inOrder(nodesManager, eventsManager) {
+            verify(nodesManager).registerNode(isA<GroupNode>(), eq("1"))
+            verify(nodesManager).registerNode(isA<UiTextNode>(), eq("2"))
+            verify(nodesManager).addNodeToParent("2", "1")
+            verify(nodesManager).addNodeToRoot("1")
+            verify(nodesManager).enqueueUpdate("2", props)
+            verify(eventsManager).addOnActivateEventHandler("2")
+            verify(nodesManager).removeNode("2")
+        }
+    }
+
+    @Test
+    fun `should apply batched updates of a node once per frame`() {
+        val context = ReactApplicationContext(ApplicationProvider.getApplicationContext())
+        val uiNodesManager = UiNodesManager()
+        val manager = ARComponentManager(
+            context,
+            uiNodesManager,
+            eventsManager,
+            mediaPlayerPool,
+            arResourcesProvider,
+            TestAppInfoProvider()
+        )
+        val node = mock<TransformNode>()
+        uiNodesManager.registerNode(node, "1")
+        val mutations = reactArrayOf(
+            reactMapOf("op", "update", "id", "1", "props", reactMapOf("text", "a")),
+            reactMapOf("op", "update", "id", "1", "props", reactMapOf("text", "b"))
+        )
+
+        manager.applyMutations(mutations)
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks()
+
+        verify(node, times(1)).update(any())
+        verify(node).update(reactMapOf("text", "b"))
+    }
+
+    @Test
+    fun `should skip unknown mutations`() {
+        val mutations = reactArrayOf(
+            reactMapOf("op", "create", "type", "unknown", "id", "1"),
+            reactMapOf("op", "unknown", "id", "1"),
+            reactMapOf("op", "subscribe", "id", "1", "event", "onUnknown"),
+            reactMapOf("op", "create", "type", "view", "id", "2")
+        )
+
+        manager.applyMutations(mutations)
+
+        verify(nodesManager).registerNode(isA<GroupNode>(), eq("2"))
+        verifyNoMoreInteractions(nodesManager)
+        verifyZeroInteractions(eventsManager)
+    }
+
+    // endregion
+
 }
\ No newline at end of file
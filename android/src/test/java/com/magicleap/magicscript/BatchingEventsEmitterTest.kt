@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.magicleap.magicscript
+
+import android.os.Bundle
+import com.nhaarman.mockitokotlin2.*
+import org.amshove.kluent.shouldEqual
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.shadows.ShadowLooper
+
+@RunWith(RobolectricTestRunner::class)
+class BatchingEventsEmitterTest {
+
+    private lateinit var emitter: EventsEmitter
+    private lateinit var batchingEmitter: BatchingEventsEmitter
+
+    @Before
+    fun setUp() {
+        // frames are triggered manually with flush()
+        ShadowLooper.pauseMainLooper()
+        emitter = mock()
+        batchingEmitter = BatchingEventsEmitter(
+            emitter,
+            coalescedEvents = setOf(ReactEventsManager.EVENT_SLIDER_VALUE_CHANGED)
+        )
+    }
+
+    @Test
+    fun `should send events of a frame in a single batch`() {
+        batchingEmitter.sendEvent(ReactEventsManager.EVENT_PRESS, eventParams("1"))
+        batchingEmitter.sendEvent(ReactEventsManager.EVENT_RELEASE, eventParams("1"))
+
+        batchingEmitter.flush()
+
+        val events = captureBatches().single()
+        events.map { it.getString(BatchingEventsEmitter.BATCH_ARG_NAME) } shouldEqual listOf(
+            ReactEventsManager.EVENT_PRESS,
+            ReactEventsManager.EVENT_RELEASE
+        )
+    }
+
+    @Test
+    fun `should deliver only latest value of continuous event`() {
+        batchingEmitter.sendEvent(ReactEventsManager.EVENT_SLIDER_VALUE_CHANGED, sliderParams("1", 1.0))
+        batchingEmitter.sendEvent(ReactEventsManager.EVENT_SLIDER_VALUE_CHANGED, sliderParams("2", 5.0))
+        batchingEmitter.sendEvent(ReactEventsManager.EVENT_SLIDER_VALUE_CHANGED, sliderParams("1", 2.0))
+
+        batchingEmitter.flush()
+
+        val events = captureBatches().single()
+        events.map { it.sliderValue() } shouldEqual listOf(2.0, 5.0)
+    }
+
+    @Test
+    fun `should not deliver continuous event before earlier discrete event`() {
+        batchingEmitter.sendEvent(ReactEventsManager.EVENT_SLIDER_VALUE_CHANGED, sliderParams("1", 1.0))
+        batchingEmitter.sendEvent(ReactEventsManager.EVENT_RELEASE, eventParams("1"))
+        batchingEmitter.sendEvent(ReactEventsManager.EVENT_SLIDER_VALUE_CHANGED, sliderParams("1", 2.0))
+
+        batchingEmitter.flush()
+
+        val events = captureBatches().single()
+        events.map { it.getString(BatchingEventsEmitter.BATCH_ARG_NAME) } shouldEqual listOf(
+            ReactEventsManager.EVENT_SLIDER_VALUE_CHANGED,
+            ReactEventsManager.EVENT_RELEASE,
+            ReactEventsManager.EVENT_SLIDER_VALUE_CHANGED
+        )
+    }
+
+    @Test
+    fun `should deliver continuous event of every frame`() {
+        batchingEmitter.sendEvent(ReactEventsManager.EVENT_SLIDER_VALUE_CHANGED, sliderParams("1", 1.0))
+        batchingEmitter.flush()
+
+        batchingEmitter.sendEvent(ReactEventsManager.EVENT_SLIDER_VALUE_CHANGED, sliderParams("1", 2.0))
+        batchingEmitter.flush()
+
+        val batches = captureBatches()
+        batches.size shouldEqual 2
+        batches[1].single().sliderValue() shouldEqual 2.0
+    }
+
+    @Test
+    fun `should not send empty batch`() {
+        batchingEmitter.flush()
+
+        verifyZeroInteractions(emitter)
+    }
+
+    private fun captureBatches(): List<List<Bundle>> {
+        val captor = argumentCaptor<Bundle>()
+        verify(emitter, atLeastOnce()).sendEvent(eq(BatchingEventsEmitter.EVENT_BATCH), captor.capture())
+        return captor.allValues.map {
+            it.getParcelableArrayList<Bundle>(BatchingEventsEmitter.BATCH_ARG_EVENTS)!!
+        }
+    }
+
+    private fun eventParams(nodeId: String) = Bundle().apply {
+        putString(ReactEventsManager.EVENT_ARG_NODE_ID, nodeId)
+    }
+
+    private fun sliderParams(nodeId: String, value: Double) = eventParams(nodeId).apply {
+        putDouble(ReactEventsManager.EVENT_ARG_SLIDER_VALUE, value)
+    }
+
+    private fun Bundle.sliderValue(): Double? {
+        return getBundle(BatchingEventsEmitter.BATCH_ARG_PARAMS)
+            ?.getDouble(ReactEventsManager.EVENT_ARG_SLIDER_VALUE)
+    }
+
+}
@@ -42,7 +42,10 @@ import com.magicleap.magicscript.scene.nodes.props.AABB
 import com.magicleap.magicscript.scene.nodes.props.Bounding
 import com.magicleap.magicscript.utils.*
 import com.nhaarman.mockitokotlin2.any
+import com.nhaarman.mockitokotlin2.argumentCaptor
+import com.nhaarman.mockitokotlin2.atLeastOnce
 import com.nhaarman.mockitokotlin2.mock
+import com.nhaarman.mockitokotlin2.verify
 import com.nhaarman.mockitokotlin2.whenever
 import kotlin.test.assertTrue
 
@@ -134,6 +137,7 @@ class PrismBuilder(
         return Prism(
             initProps = props,
             context = context,
+            viewLoader = mock(),
             modelLoader = mock(),
             cubeBuilder = mock(),
             anchorCreator = anchorCreator,
@@ -261,4 +265,29 @@ fun measureChildren(
         }
     }
     return changed
+}
+
+/**
+ * Finishes the last view load requested from the mocked [viewRenderableLoader],
+ * so the node no longer waits for its renderable (the load finishes with an error,
+ * because a renderable can't be created without ARCore)
+ */
+fun finishViewLoading(viewRenderableLoader: ViewRenderableLoader) {
+    val requestCaptor = argumentCaptor<ViewRenderableLoader.LoadRequest>()
+    verify(viewRenderableLoader, atLeastOnce()).loadRenderable(requestCaptor.capture())
+    requestCaptor.lastValue.listener.invoke(DataResult.Error(Exception("not loaded in tests")))
+}
+
+/**
+ * Map that counts the reads of its values, so tests can check
+ * how the number of operations grows with the input size
+ */
+class ReadsCountingMap<K, V>(private val map: Map<K, V>) : Map<K, V> by map {
+    var readsCount = 0
+        private set
+
+    override fun get(key: K): V? {
+        readsCount++
+        return map[key]
+    }
 }
\ No newline at end of file
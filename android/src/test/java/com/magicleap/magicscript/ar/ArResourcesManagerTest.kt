@@ -18,9 +18,11 @@ package com.magicleap.magicscript.ar
 
 import android.content.Context
 import androidx.test.core.app.ApplicationProvider
+import com.google.ar.core.Anchor
 import com.google.ar.core.HitResult
 import com.google.ar.core.Pose
 import com.google.ar.core.TrackingState
+import com.google.ar.sceneform.AnchorNode
 import com.google.ar.sceneform.Scene
 import com.google.ar.sceneform.math.Quaternion
 import com.google.ar.sceneform.math.Vector3
@@ -30,13 +32,18 @@ import com.magicleap.magicscript.shouldEqualInexact
 import com.magicleap.magicscript.utils.Utils
 import com.magicleap.magicscript.utils.getRotation
 import com.magicleap.magicscript.utils.getTranslationVector
+import com.nhaarman.mockitokotlin2.any
+import com.nhaarman.mockitokotlin2.mock
 import com.nhaarman.mockitokotlin2.spy
+import com.nhaarman.mockitokotlin2.verify
+import com.nhaarman.mockitokotlin2.verifyZeroInteractions
 import org.amshove.kluent.shouldBe
 import org.amshove.kluent.shouldEqual
 import org.amshove.kluent.shouldNotBe
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.robolectric.RobolectricTestRunner
+import java.util.*
 
 @RunWith(RobolectricTestRunner::class)
 class ArResourcesManagerTest {
@@ -195,6 +202,24 @@ class ArResourcesManagerTest {
         notified shouldBe false
     }
 
+    @Test
+    fun `should defer listeners exceeding the frame budget to next frames`() {
+        val listener1 = mock<ArResourcesProvider.CameraUpdatedListener>()
+        val listener2 = mock<ArResourcesProvider.CameraUpdatedListener>()
+        manager.addCameraUpdatedListener(listener1, deferrable = true)
+        manager.addCameraUpdatedListener(listener2, deferrable = true)
+        manager.cameraListenersBudgetNanos = 0
+        val pose = Utils.createPose(Vector3.zero(), Quaternion.identity())
+
+        manager.onCameraUpdated(pose, TrackingState.TRACKING)
+        verify(listener1).onCameraUpdated(any(), any())
+        verifyZeroInteractions(listener2)
+        manager.deferredCameraListenersCount shouldEqual 1
+
+        manager.onCameraUpdated(pose, TrackingState.TRACKING)
+        verify(listener2).onCameraUpdated(any(), any())
+    }
+
     @Test
     fun `isPlaneDetectionEnabled should return true if plane detection enabled`() {
         manager.planeDetection = true
@@ -267,6 +292,31 @@ class ArResourcesManagerTest {
         manager.isArLoaded() shouldBe false
     }
 
+    @Test
+    fun `should notify anchor node listener when anchor node registered`() {
+        val uuid = UUID.randomUUID().toString()
+        val anchorNode = AnchorNode(mock<Anchor>())
+        val listener = mock<ArResourcesProvider.AnchorNodeListener>()
+        manager.addAnchorNodeListener(uuid, listener)
+
+        manager.registerAnchorNode(uuid, anchorNode)
+
+        verify(listener).onAnchorNodeAvailable(uuid, anchorNode)
+        manager.findAnchorNode(uuid) shouldBe anchorNode
+    }
+
+    @Test
+    fun `should not notify removed anchor node listener`() {
+        val uuid = UUID.randomUUID().toString()
+        val listener = mock<ArResourcesProvider.AnchorNodeListener>()
+        manager.addAnchorNodeListener(uuid, listener)
+        manager.removeAnchorNodeListener(uuid, listener)
+
+        manager.registerAnchorNode(uuid, AnchorNode(mock<Anchor>()))
+
+        verifyZeroInteractions(listener)
+    }
+
     private fun getTransformationSystem(): TransformationSystem {
         val displayMetrics = context.resources.displayMetrics
         return TransformationSystem(displayMetrics, FootprintSelectionVisualizer())
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.ar
+
+import com.google.ar.core.Pose
+import com.google.ar.sceneform.math.Quaternion
+import com.google.ar.sceneform.math.Vector3
+import com.magicleap.magicscript.utils.Utils
+import org.amshove.kluent.shouldBe
+import org.junit.Test
+
+class CameraMovementTest {
+
+    @Test
+    fun `should not be noticeable when camera jitters around the same pose`() {
+        val startPose = Pose.makeTranslation(1f, 2f, 3f)
+        val jitterPose = Pose.makeTranslation(1.002f, 2f, 3f)
+
+        val movement = CameraMovement.between(startPose, jitterPose)
+
+        movement.isNoticeable() shouldBe false
+    }
+
+    @Test
+    fun `should be noticeable when camera moved away from the pose`() {
+        val startPose = Pose.makeTranslation(1f, 2f, 3f)
+        val movedPose = Pose.makeTranslation(1.01f, 2f, 3f)
+
+        val movement = CameraMovement.between(startPose, movedPose)
+
+        movement.isNoticeable() shouldBe true
+    }
+
+    @Test
+    fun `should be noticeable when camera rotated away from the pose`() {
+        val startPose = Utils.createPose(Vector3.zero(), Quaternion.identity())
+        val rotation = Quaternion.eulerAngles(Vector3(0f, 2f, 0f))
+        val rotatedPose = Utils.createPose(Vector3.zero(), rotation)
+
+        val movement = CameraMovement.between(startPose, rotatedPose)
+
+        movement.isNoticeable() shouldBe true
+    }
+
+}
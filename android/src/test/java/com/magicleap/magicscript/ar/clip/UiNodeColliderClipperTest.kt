@@ -24,6 +24,7 @@ import com.magicleap.magicscript.UiNodeBuilder
 import com.magicleap.magicscript.scene.nodes.base.UiNode
 import com.magicleap.magicscript.scene.nodes.props.AABB
 import com.magicleap.magicscript.shouldEqualInexact
+import org.amshove.kluent.shouldBe
 import org.amshove.kluent.shouldBeInstanceOf
 import org.junit.Before
 import org.junit.Test
@@ -162,4 +163,19 @@ class UiNodeColliderClipperTest {
         collider.size shouldEqualInexact Vector3(0.5f, 0.5f, 0f)
     }
 
-}
\ No newline at end of file
+    @Test
+    fun `should reuse collider when clip bounds changed`() {
+        val node = UiNodeBuilder(appContext)
+            .withSize(4f, 6f)
+            .withAlignment("bottom-center")
+            .build() as UiNode
+        clipper.applyClipBounds(node, AABB(min = Vector3(-1f, 0f, -1f), max = Vector3(1f, 3f, 1f)))
+        val collider = node.contentNode.collisionShape
+
+        clipper.applyClipBounds(node, AABB(min = Vector3(-1f, 0f, -1f), max = Vector3(1f, 2f, 1f)))
+
+        node.contentNode.collisionShape shouldBe collider
+        (collider as Box).size shouldEqualInexact Vector3(2f, 2f, 0f)
+    }
+
+}
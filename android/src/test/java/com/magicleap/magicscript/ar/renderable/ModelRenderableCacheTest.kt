@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.magicleap.magicscript.ar.renderable
+
+import android.net.Uri
+import com.google.ar.sceneform.assets.RenderableSource
+import com.google.ar.sceneform.rendering.ModelRenderable
+import com.nhaarman.mockitokotlin2.mock
+import com.nhaarman.mockitokotlin2.whenever
+import org.amshove.kluent.shouldEqual
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import java.util.concurrent.CompletableFuture
+
+@RunWith(RobolectricTestRunner::class)
+class ModelRenderableCacheTest {
+
+    private val keyA = key("http://localhost/a.glb")
+    private val keyB = key("http://localhost/b.glb")
+
+    @Test
+    fun `should build model once for the same key`() {
+        val cache = ModelRenderableCache()
+        var builds = 0
+        val build = {
+            builds++
+            CompletableFuture.completedFuture(createModel())
+        }
+
+        repeat(10) {
+            cache.acquire(keyA, build, { 100L })
+        }
+
+        builds shouldEqual 1
+        cache.misses shouldEqual 1
+        cache.hits shouldEqual 9
+        cache.bytesResident shouldEqual 100L
+    }
+
+    @Test
+    fun `should build model again for different recenter mode`() {
+        val cache = ModelRenderableCache()
+        val otherKey = keyA.copy(recenterMode = RenderableSource.RecenterMode.NONE)
+
+        cache.acquire(keyA, { CompletableFuture.completedFuture(createModel()) }, { 100L })
+        cache.acquire(otherKey, { CompletableFuture.completedFuture(createModel()) }, { 100L })
+
+        cache.misses shouldEqual 2
+        cache.size shouldEqual 2
+    }
+
+    @Test
+    fun `should not evict models that are in use`() {
+        val cache = ModelRenderableCache(maxBytes = 150L)
+
+        cache.acquire(keyA, { CompletableFuture.completedFuture(createModel()) }, { 100L })
+        cache.acquire(keyB, { CompletableFuture.completedFuture(createModel()) }, { 100L })
+
+        cache.size shouldEqual 2
+        cache.bytesResident shouldEqual 200L
+    }
+
+    @Test
+    fun `should evict released model when over budget`() {
+        val cache = ModelRenderableCache(maxBytes = 150L)
+        cache.acquire(keyA, { CompletableFuture.completedFuture(createModel()) }, { 100L })
+        cache.acquire(keyB, { CompletableFuture.completedFuture(createModel()) }, { 100L })
+
+        cache.release(keyA)
+
+        cache.size shouldEqual 1
+        cache.bytesResident shouldEqual 100L
+    }
+
+    @Test
+    fun `should keep released model when within budget`() {
+        val cache = ModelRenderableCache(maxBytes = 1000L)
+        cache.acquire(keyA, { CompletableFuture.completedFuture(createModel()) }, { 100L })
+
+        cache.release(keyA)
+        cache.acquire(keyA, { CompletableFuture.completedFuture(createModel()) }, { 100L })
+
+        cache.hits shouldEqual 1
+    }
+
+    @Test
+    fun `should not keep failed models`() {
+        val cache = ModelRenderableCache()
+        val failed = CompletableFuture<ModelRenderable>()
+        cache.acquire(keyA, { failed }, { 100L })
+
+        failed.completeExceptionally(Exception("error"))
+
+        cache.size shouldEqual 0
+        cache.bytesResident shouldEqual 0L
+    }
+
+    private fun key(uri: String) =
+        ModelRenderableCache.Key(Uri.parse(uri), RenderableSource.RecenterMode.CENTER)
+
+    private fun createModel(): ModelRenderable {
+        val model: ModelRenderable = mock()
+        whenever(model.makeCopy()).thenReturn(model)
+        return model
+    }
+
+}
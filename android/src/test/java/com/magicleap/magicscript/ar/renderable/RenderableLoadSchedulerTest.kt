@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.magicleap.magicscript.ar.renderable
+
+import com.google.ar.core.Pose
+import com.google.ar.core.TrackingState
+import com.google.ar.sceneform.Node
+import com.google.ar.sceneform.math.Vector3
+import com.google.ar.sceneform.rendering.ModelRenderable
+import com.magicleap.magicscript.ar.ArResourcesProvider
+import com.nhaarman.mockitokotlin2.mock
+import com.nhaarman.mockitokotlin2.verify
+import com.nhaarman.mockitokotlin2.whenever
+import org.amshove.kluent.shouldEqual
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class RenderableLoadSchedulerTest {
+
+    private lateinit var arResourcesProvider: ArResourcesProvider
+    private lateinit var scheduler: RenderableLoadScheduler
+
+    @Before
+    fun setUp() {
+        arResourcesProvider = mock()
+        whenever(arResourcesProvider.isArLoaded()).thenReturn(true)
+        scheduler = RenderableLoadScheduler(
+            arResourcesProvider,
+            maxConcurrentLoads = 2,
+            maxStartsPerFrame = 2
+        )
+    }
+
+    @Test
+    fun `should register for camera updates`() {
+        verify(arResourcesProvider).addCameraUpdatedListener(scheduler)
+    }
+
+    @Test
+    fun `should not start loading before AR is loaded`() {
+        whenever(arResourcesProvider.isArLoaded()).thenReturn(false)
+        var started = false
+        scheduler.schedule(RenderableLoadRequest<ModelRenderable> {}) { started = true }
+
+        nextFrame()
+
+        started shouldEqual false
+        scheduler.pendingLoads shouldEqual 1
+    }
+
+    @Test
+    fun `should limit number of concurrent loads`() {
+        val finishCallbacks = mutableListOf<() -> Unit>()
+        repeat(5) {
+            scheduler.schedule(RenderableLoadRequest<ModelRenderable> {}) { finishCallbacks.add(it) }
+        }
+
+        nextFrame()
+        nextFrame()
+
+        finishCallbacks.size shouldEqual 2
+        scheduler.runningLoads shouldEqual 2
+
+        finishCallbacks[0].invoke()
+        nextFrame()
+
+        finishCallbacks.size shouldEqual 3
+        scheduler.pendingLoads shouldEqual 2
+    }
+
+    @Test
+    fun `should count finished load only once`() {
+        scheduler.schedule(RenderableLoadRequest<ModelRenderable> {}) { onFinished ->
+            onFinished()
+            onFinished()
+        }
+
+        nextFrame()
+
+        scheduler.runningLoads shouldEqual 0
+    }
+
+    @Test
+    fun `should drop cancelled requests`() {
+        var started = false
+        val request = RenderableLoadRequest<ModelRenderable> {}
+        scheduler.schedule(request) { started = true }
+
+        scheduler.cancel(request)
+        nextFrame()
+
+        started shouldEqual false
+        request.isCancelled shouldEqual true
+        scheduler.pendingLoads shouldEqual 0
+    }
+
+    @Test
+    fun `should start loading nodes in front of camera first`() {
+        val started = mutableListOf<String>()
+        val behindRequest = RenderableLoadRequest<ModelRenderable> {}.apply {
+            priorityNode = Node().apply { worldPosition = Vector3(0f, 0f, 1f) }
+        }
+        val farRequest = RenderableLoadRequest<ModelRenderable> {}.apply {
+            priorityNode = Node().apply { worldPosition = Vector3(0f, 0f, -5f) }
+        }
+        val nearRequest = RenderableLoadRequest<ModelRenderable> {}.apply {
+            priorityNode = Node().apply { worldPosition = Vector3(0f, 0f, -1f) }
+        }
+        scheduler.schedule(behindRequest) { started.add("behind") }
+        scheduler.schedule(farRequest) { started.add("far") }
+        scheduler.schedule(nearRequest) { started.add("near") }
+
+        nextFrame()
+
+        started shouldEqual listOf("near", "far")
+    }
+
+    @Test
+    fun `should unregister from camera updates on release`() {
+        scheduler.schedule(RenderableLoadRequest<ModelRenderable> {}) {}
+
+        scheduler.release()
+
+        verify(arResourcesProvider).removeCameraUpdatedListener(scheduler)
+        scheduler.pendingLoads shouldEqual 0
+    }
+
+    private fun nextFrame() {
+        scheduler.onCameraUpdated(Pose.IDENTITY, TrackingState.TRACKING)
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.magicleap.magicscript.ar.renderable
+
+import com.google.ar.sceneform.rendering.Material
+import com.google.ar.sceneform.rendering.ModelRenderable
+import com.magicleap.magicscript.ar.ArResourcesProvider
+import com.nhaarman.mockitokotlin2.mock
+import com.nhaarman.mockitokotlin2.verify
+import com.nhaarman.mockitokotlin2.whenever
+import org.amshove.kluent.shouldBe
+import org.amshove.kluent.shouldEqual
+import org.amshove.kluent.shouldNotBe
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import java.util.concurrent.CompletableFuture
+
+@RunWith(RobolectricTestRunner::class)
+class ViewMaterialCacheTest {
+
+    private lateinit var arResourcesProvider: ArResourcesProvider
+    private lateinit var cache: ViewMaterialCache
+    private var builds = 0
+
+    @Before
+    fun setUp() {
+        arResourcesProvider = mock()
+        builds = 0
+        cache = ViewMaterialCache(arResourcesProvider) {
+            builds++
+            CompletableFuture.completedFuture(createViewModel(createMaterial()))
+        }
+    }
+
+    @Test
+    fun `should register for AR loaded events`() {
+        verify(arResourcesProvider).addArLoadedListener(cache)
+    }
+
+    @Test
+    fun `should return copy of the view model material`() {
+        val modelMaterial = createMaterial()
+        val copy: Material = mock()
+        whenever(modelMaterial.makeCopy()).thenReturn(copy)
+        val cache = ViewMaterialCache(arResourcesProvider) {
+            CompletableFuture.completedFuture(createViewModel(modelMaterial))
+        }
+
+        cache.getMaterial().get() shouldBe copy
+    }
+
+    @Test
+    fun `should build material once`() {
+        repeat(10) {
+            cache.getMaterial()
+        }
+
+        builds shouldEqual 1
+    }
+
+    @Test
+    fun `should return own copy of material for each renderable`() {
+        val first = cache.getMaterial().get()
+        val second = cache.getMaterial().get()
+
+        first shouldNotBe second
+    }
+
+    @Test
+    fun `should keep material when AR is loaded for the first time`() {
+        cache.getMaterial()
+
+        cache.onArLoaded(firstTime = true)
+        cache.getMaterial()
+
+        builds shouldEqual 1
+    }
+
+    @Test
+    fun `should build material again when AR is reloaded`() {
+        cache.getMaterial()
+
+        cache.onArLoaded(firstTime = false)
+        cache.getMaterial()
+
+        builds shouldEqual 2
+    }
+
+    @Test
+    fun `should build material again when loading failed`() {
+        val failed = CompletableFuture<ModelRenderable>()
+        failed.completeExceptionally(Exception("error"))
+        var builds = 0
+        val cache = ViewMaterialCache(arResourcesProvider) {
+            builds++
+            if (builds == 1) {
+                failed
+            } else {
+                CompletableFuture.completedFuture(createViewModel(createMaterial()))
+            }
+        }
+
+        cache.getMaterial().isCompletedExceptionally shouldBe true
+        cache.getMaterial().isCompletedExceptionally shouldBe false
+        builds shouldEqual 2
+    }
+
+    @Test
+    fun `should unregister from AR loaded events when released`() {
+        cache.release()
+
+        verify(arResourcesProvider).removeArLoadedListener(cache)
+    }
+
+    private fun createViewModel(material: Material): ModelRenderable {
+        val model: ModelRenderable = mock()
+        whenever(model.material).thenReturn(material)
+        return model
+    }
+
+    private fun createMaterial(): Material {
+        val material: Material = mock()
+        whenever(material.makeCopy()).thenAnswer { mock<Material>() }
+        return material
+    }
+
+}
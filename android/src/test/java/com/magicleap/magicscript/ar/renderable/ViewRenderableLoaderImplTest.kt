@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.magicleap.magicscript.ar.renderable
+
+import com.google.ar.sceneform.math.Vector3
+import com.google.ar.sceneform.rendering.Material
+import com.magicleap.magicscript.shouldEqualInexact
+import com.nhaarman.mockitokotlin2.mock
+import org.amshove.kluent.shouldBe
+import org.amshove.kluent.shouldEqual
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class ViewRenderableLoaderImplTest {
+
+    @Test
+    fun `should create quad with the same geometry as android_view model`() {
+        val material: Material = mock()
+
+        val definition = ViewRenderableLoaderImpl.createQuadDefinition(material)
+
+        val vertices = definition.vertices
+        vertices.size shouldEqual 4
+        vertices[0].position shouldEqualInexact Vector3(-0.5f, 0f, 0f)
+        vertices[1].position shouldEqualInexact Vector3(0.5f, 0f, 0f)
+        vertices[2].position shouldEqualInexact Vector3(-0.5f, 1f, 0f)
+        vertices[3].position shouldEqualInexact Vector3(0.5f, 1f, 0f)
+        vertices.map { listOf(it.uvCoordinate!!.x, it.uvCoordinate!!.y) } shouldEqual listOf(
+            listOf(0f, 0f),
+            listOf(1f, 0f),
+            listOf(0f, 1f),
+            listOf(1f, 1f)
+        )
+        vertices.forEach { it.normal!! shouldEqualInexact Vector3(0f, 0f, 1f) }
+
+        definition.submeshes.size shouldEqual 1
+        definition.submeshes[0].triangleIndices shouldEqual listOf(0, 1, 3, 0, 3, 2)
+        definition.submeshes[0].material shouldBe material
+    }
+
+}
@@ -17,11 +17,16 @@
 package com.magicleap.magicscript.plane
 
 import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.ReadableType
+import com.facebook.react.bridge.WritableMap
 import com.google.ar.core.HitResult
 import com.google.ar.core.Plane
 import com.google.ar.core.Pose
+import com.google.ar.core.TrackingState
 import com.magicleap.magicscript.TestReactObjectsProvider
+import com.magicleap.magicscript.reactMapOf
 import com.nhaarman.mockitokotlin2.*
+import org.amshove.kluent.shouldEqual
 import org.junit.After
 import org.junit.Assert.assertFalse
 import org.junit.Assert.assertTrue
@@ -30,6 +35,7 @@ import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.junit.MockitoJUnitRunner
 import java.nio.FloatBuffer
+import java.util.concurrent.Executor
 
 @RunWith(MockitoJUnitRunner::class)
 class ARPlaneDetectorBridgeTest {
@@ -40,6 +46,7 @@ class ARPlaneDetectorBridgeTest {
     fun setUp() {
         bridge = ARPlaneDetectorBridge.INSTANCE
         bridge.objectsProvider = TestReactObjectsProvider()
+        bridge.eventsExecutor = Executor { it.run() }
     }
 
     @After
@@ -98,6 +105,86 @@ class ARPlaneDetectorBridgeTest {
         verify(onTappedListener).invoke(any())
     }
 
+    @Test
+    fun `should notify about added, updated and removed planes`() {
+        val plane = mockPlane(mock())
+        val onAddedListener = mock<OnPlanesAdded>()
+        val onUpdatedListener = mock<OnPlanesUpdated>()
+        val onRemovedListener = mock<OnPlanesRemoved>()
+        bridge.setOnPlanesAddedListener(onAddedListener)
+        bridge.setOnPlanesUpdatedListener(onUpdatedListener)
+        bridge.setOnPlanesRemovedListener(onRemovedListener)
+
+        bridge.onPlaneUpdate(listOf(plane), 1L)
+        bridge.onPlaneUpdate(listOf(plane), 2L)
+        whenever(plane.trackingState).thenReturn(TrackingState.STOPPED)
+        bridge.onPlaneUpdate(listOf(plane), 3L)
+
+        verify(onAddedListener, times(1)).invoke(any())
+        verify(onUpdatedListener, times(1)).invoke(any())
+        verify(onRemovedListener, times(1)).invoke(any())
+    }
+
+    @Test
+    fun `should not notify about planes that have not been updated`() {
+        val onUpdatedListener = mock<OnPlanesUpdated>()
+        bridge.setOnPlanesAddedListener(mock())
+        bridge.setOnPlanesUpdatedListener(onUpdatedListener)
+        bridge.onPlaneUpdate(listOf(mockPlane(mock())), 1L)
+
+        bridge.onPlaneUpdate(emptyList(), 2L)
+
+        verifyZeroInteractions(onUpdatedListener)
+    }
+
+    @Test
+    fun `should limit the rate of plane updates`() {
+        val plane = mockPlane(mock())
+        val onUpdatedListener = mock<OnPlanesUpdated>()
+        bridge.setOnPlanesAddedListener(mock())
+        bridge.setOnPlanesUpdatedListener(onUpdatedListener)
+        bridge.startDetecting(reactMapOf("maxUpdateRate", 10.0))
+        bridge.onPlaneUpdate(listOf(plane), 1_000_000_000L)
+
+        bridge.onPlaneUpdate(listOf(plane), 1_050_000_000L)
+        bridge.onPlaneUpdate(emptyList(), 1_120_000_000L)
+
+        // the update from the second frame is sent with the third one
+        verify(onUpdatedListener, times(1)).invoke(any())
+    }
+
+    @Test
+    fun `should send vertices as a flat array when compact payload enabled`() {
+        val onAddedListener = mock<OnPlanesAdded>()
+        bridge.setOnPlanesAddedListener(onAddedListener)
+        bridge.startDetecting(reactMapOf("compactPayload", true))
+
+        bridge.onPlaneUpdate(listOf(mockPlane(mock())), 1L)
+
+        val payloadCaptor = argumentCaptor<WritableMap>()
+        verify(onAddedListener).invoke(payloadCaptor.capture())
+        val vertices = payloadCaptor.firstValue.getArray("vertices")!!
+        vertices.size() shouldEqual 6
+        vertices.getType(0) shouldEqual ReadableType.Number
+    }
+
+    @Test
+    fun `should not send plane update when extent changed less than configured`() {
+        val plane = mockPlane(mock())
+        whenever(plane.extentX).thenReturn(1.0f, 1.05f, 1.2f)
+        val onUpdatedListener = mock<OnPlanesUpdated>()
+        bridge.setOnPlanesAddedListener(mock())
+        bridge.setOnPlanesUpdatedListener(onUpdatedListener)
+        bridge.startDetecting(reactMapOf("minExtentChange", 0.1))
+        bridge.onPlaneUpdate(listOf(plane), 1L)
+
+        bridge.onPlaneUpdate(listOf(plane), 2L)
+        verifyZeroInteractions(onUpdatedListener)
+
+        bridge.onPlaneUpdate(listOf(plane), 3L)
+        verify(onUpdatedListener).invoke(any())
+    }
+
     private fun mockPlane(pose: Pose): Plane = mock {
         on { type } doReturn Plane.Type.VERTICAL
         on { polygon } doReturn FloatBuffer.wrap(floatArrayOf(0f, 1f, 2f, 3f))
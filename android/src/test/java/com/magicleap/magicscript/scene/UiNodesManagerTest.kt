@@ -19,6 +19,7 @@ package com.magicleap.magicscript.scene
 import android.content.Context
 import androidx.test.core.app.ApplicationProvider
 import com.facebook.react.bridge.JavaOnlyMap
+import com.facebook.react.bridge.ReadableMap
 import com.google.ar.core.Anchor
 import com.google.ar.sceneform.AnchorNode
 import com.google.ar.sceneform.Scene
@@ -28,15 +29,17 @@ import com.magicleap.magicscript.NodeBuilder
 import com.magicleap.magicscript.PrismBuilder
 import com.magicleap.magicscript.ar.ArResourcesProvider
 import com.magicleap.magicscript.createCameraInfo
+import com.magicleap.magicscript.reactArrayOf
 import com.magicleap.magicscript.reactMapOf
+import com.magicleap.magicscript.scene.nodes.LineNode
 import com.magicleap.magicscript.scene.nodes.base.TransformNode
 import com.magicleap.magicscript.scene.nodes.prism.Prism
-import com.nhaarman.mockitokotlin2.mock
-import com.nhaarman.mockitokotlin2.spy
-import com.nhaarman.mockitokotlin2.verify
-import com.nhaarman.mockitokotlin2.whenever
+import com.nhaarman.mockitokotlin2.*
 import org.amshove.kluent.shouldBe
+import org.amshove.kluent.shouldBeLessOrEqualTo
+import org.amshove.kluent.shouldBeLessThan
 import org.amshove.kluent.shouldEqual
+import org.amshove.kluent.shouldNotBe
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -136,6 +139,30 @@ class UiNodesManagerTest {
         nodesManager.findNodeWithId("3") shouldBe null
     }
 
+    @Test
+    fun `should keep other nodes when subtree removed`() {
+        nodesManager.registerNode(NodeBuilder().build(), "0")
+        nodesManager.registerNode(NodeBuilder().build(), "1")
+        nodesManager.registerNode(NodeBuilder().build(), "2")
+        nodesManager.addNodeToParent("1", "0")
+
+        nodesManager.removeNode("0")
+
+        nodesManager.findNodeWithId("1") shouldBe null
+        nodesManager.findNodeWithId("2") shouldNotBe null
+    }
+
+    @Test
+    fun `should mount and unmount large trees in linear time`() {
+        // 500 and 5000 nodes per tree including group nodes and root
+        val smallTreeComparisons = mountAndUnmountTree("small", groups = 10, childrenPerGroup = 49)
+        val largeTreeComparisons = mountAndUnmountTree("large", groups = 50, childrenPerGroup = 99)
+
+        // 10 times more nodes, looking up the nodes by value would compare
+        // around 100 times more nodes
+        largeTreeComparisons shouldBeLessOrEqualTo smallTreeComparisons * 10
+    }
+
     @Test
     fun `AR scene should not have any children at the beginning`() {
         arScene.children.size shouldEqual 0
@@ -200,6 +227,130 @@ class UiNodesManagerTest {
         verify(node).update(props)
     }
 
+    @Test
+    fun `should apply merged updates once per frame`() {
+        val node = mock<TransformNode>()
+        nodesManager.registerNode(node, "1")
+
+        nodesManager.enqueueUpdate("1", reactMapOf("localPosition", 1.0, "text", "a"))
+        nodesManager.enqueueUpdate("1", reactMapOf("localPosition", 2.0))
+        nodesManager.enqueueUpdate("1", reactMapOf("localPosition", 3.0))
+        nodesManager.applyPendingUpdates()
+        nodesManager.applyPendingUpdates()
+
+        verify(node, times(1)).update(reactMapOf("localPosition", 3.0, "text", "a"))
+    }
+
+    @Test
+    fun `should merge updates passed as maps other than JavaOnlyMap`() {
+        val node = mock<TransformNode>()
+        nodesManager.registerNode(node, "1")
+
+        // the bridge passes ReadableNativeMap, which can't be merged into JavaOnlyMap directly
+        nodesManager.enqueueUpdate("1", BridgeMap(reactMapOf("localPosition", 1.0, "text", "a")))
+        nodesManager.enqueueUpdate(
+            "1", BridgeMap(reactMapOf("localPosition", 2.0, "size", reactArrayOf(1.0, 2.0)))
+        )
+        nodesManager.applyPendingUpdates()
+
+        verify(node).update(
+            reactMapOf("localPosition", 2.0, "text", "a", "size", reactArrayOf(1.0, 2.0))
+        )
+    }
+
+    @Test
+    fun `should accumulate points appended to a line in merged updates`() {
+        val node = mock<TransformNode>()
+        nodesManager.registerNode(node, "1")
+
+        nodesManager.enqueueUpdate(
+            "1", reactMapOf(LineNode.PROP_APPEND_POINTS, reactArrayOf(reactArrayOf(1.0, 0.0, 0.0)))
+        )
+        nodesManager.enqueueUpdate(
+            "1", reactMapOf(
+                LineNode.PROP_APPEND_POINTS,
+                reactArrayOf(reactArrayOf(2.0, 0.0, 0.0), reactArrayOf(3.0, 0.0, 0.0))
+            )
+        )
+        nodesManager.applyPendingUpdates()
+
+        val propsCaptor = argumentCaptor<ReadableMap>()
+        verify(node).update(propsCaptor.capture())
+        propsCaptor.firstValue.getArray(LineNode.PROP_APPEND_POINTS)!!.size() shouldEqual 3
+    }
+
+    @Test
+    fun `should drop appended points when all points of a line are replaced`() {
+        val node = mock<TransformNode>()
+        nodesManager.registerNode(node, "1")
+
+        nodesManager.enqueueUpdate(
+            "1", reactMapOf(LineNode.PROP_APPEND_POINTS, reactArrayOf(reactArrayOf(1.0, 0.0, 0.0)))
+        )
+        nodesManager.enqueueUpdate(
+            "1", reactMapOf(LineNode.PROP_POINTS, reactArrayOf(reactArrayOf(2.0, 0.0, 0.0)))
+        )
+        nodesManager.applyPendingUpdates()
+
+        val propsCaptor = argumentCaptor<ReadableMap>()
+        verify(node).update(propsCaptor.capture())
+        propsCaptor.firstValue.isNull(LineNode.PROP_APPEND_POINTS) shouldEqual true
+    }
+
+    @Test
+    fun `should apply pending update when node registered later`() {
+        val node = mock<TransformNode>()
+        val props = reactMapOf("text", "a")
+        nodesManager.enqueueUpdate("1", props)
+        nodesManager.applyPendingUpdates()
+
+        nodesManager.registerNode(node, "1")
+        nodesManager.applyPendingUpdates()
+
+        verify(node).update(props)
+    }
+
+    @Test
+    fun `should drop pending update when node is not registered in time`() {
+        val node = mock<TransformNode>()
+        nodesManager.enqueueUpdate("1", reactMapOf("text", "a"))
+
+        var framesWithPendingUpdates = 0
+        while (nodesManager.applyPendingUpdates() && framesWithPendingUpdates < 100) {
+            framesWithPendingUpdates++
+        }
+        nodesManager.registerNode(node, "1")
+        nodesManager.applyPendingUpdates()
+
+        framesWithPendingUpdates shouldBeLessThan 100
+        verify(node, never()).update(any())
+    }
+
+    @Test
+    fun `should not override direct update with older pending update`() {
+        val node = mock<TransformNode>()
+        nodesManager.registerNode(node, "1")
+
+        nodesManager.enqueueUpdate("1", reactMapOf("text", "old"))
+        nodesManager.updateNode("1", reactMapOf("text", "new"))
+        nodesManager.applyPendingUpdates()
+
+        verify(node, times(1)).update(any())
+        verify(node).update(reactMapOf("text", "new"))
+    }
+
+    @Test
+    fun `should drop pending update of removed node`() {
+        val node = mock<TransformNode>()
+        nodesManager.registerNode(node, "1")
+
+        nodesManager.enqueueUpdate("1", reactMapOf("text", "a"))
+        nodesManager.removeNode("1")
+        nodesManager.applyPendingUpdates()
+
+        verify(node, never()).update(any())
+    }
+
     @Test
     fun `should notify all nodes when Activity resumed`() {
         val node1 = mock<TransformNode>()
@@ -257,4 +408,44 @@ class UiNodesManagerTest {
         return TransformationSystem(displayMetrics, FootprintSelectionVisualizer())
     }
 
-}
+    /**
+     * Registers a tree of nodes, removes it and returns how many times
+     * the nodes have been compared by value
+     */
+    private fun mountAndUnmountTree(rootId: String, groups: Int, childrenPerGroup: Int): Int {
+        var comparisons = 0
+        val createNode = {
+            object : TransformNode(JavaOnlyMap(), true) {
+                override fun equals(other: Any?): Boolean {
+                    comparisons++
+                    return super.equals(other)
+                }
+
+                override fun hashCode() = super.hashCode()
+            }.apply { build() }
+        }
+
+        nodesManager.registerNode(createNode(), rootId)
+        for (group in 0 until groups) {
+            val groupId = "$rootId-$group"
+            nodesManager.registerNode(createNode(), groupId)
+            nodesManager.addNodeToParent(groupId, rootId)
+            for (child in 0 until childrenPerGroup) {
+                val childId = "$groupId-$child"
+                nodesManager.registerNode(createNode(), childId)
+                nodesManager.addNodeToParent(childId, groupId)
+            }
+        }
+        nodesManager.removeNode(rootId)
+
+        nodesManager.findNodeWithId(rootId) shouldBe null
+        nodesManager.findNodeWithId("$rootId-${groups - 1}-${childrenPerGroup - 1}") shouldBe null
+        return comparisons
+    }
+
+    /**
+     * Map that is not a [JavaOnlyMap] (like the native maps passed by the bridge)
+     */
+    private class BridgeMap(map: ReadableMap) : ReadableMap by map
+
+}
\ No newline at end of file
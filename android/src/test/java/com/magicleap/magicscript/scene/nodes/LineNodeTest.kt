@@ -18,16 +18,16 @@ package com.magicleap.magicscript.scene.nodes
 
 import com.facebook.react.bridge.JavaOnlyMap
 import com.google.ar.sceneform.math.Vector3
-import com.magicleap.magicscript.ar.renderable.CubeRenderableBuilder
+import com.magicleap.magicscript.ar.PolylineMesh
+import com.magicleap.magicscript.ar.renderable.LineRenderableBuilder
 import com.magicleap.magicscript.reactArrayOf
 import com.magicleap.magicscript.reactMapOf
 import com.magicleap.magicscript.scene.nodes.base.TransformNode
+import com.magicleap.magicscript.scene.nodes.props.AABB
 import com.magicleap.magicscript.scene.nodes.props.Alignment
 import com.magicleap.magicscript.shouldEqualInexact
-import com.nhaarman.mockitokotlin2.any
-import com.nhaarman.mockitokotlin2.mock
-import com.nhaarman.mockitokotlin2.times
-import com.nhaarman.mockitokotlin2.verify
+import com.nhaarman.mockitokotlin2.*
+import org.amshove.kluent.shouldBe
 import org.amshove.kluent.shouldHaveSize
 import org.junit.Assert.assertEquals
 import org.junit.Before
@@ -42,11 +42,11 @@ import org.robolectric.RobolectricTestRunner
 @RunWith(RobolectricTestRunner::class)
 class LineNodeTest {
 
-    private lateinit var cubeBuilder: CubeRenderableBuilder
+    private lateinit var lineBuilder: LineRenderableBuilder
 
     @Before
     fun setUp() {
-        cubeBuilder = mock()
+        lineBuilder = mock()
     }
 
     @Test
@@ -86,11 +86,110 @@ class LineNodeTest {
 
         node.build()
 
-        node.contentNode.children shouldHaveSize 2
+        val requestCaptor = argumentCaptor<LineRenderableBuilder.LoadRequest>()
+        verify(lineBuilder).buildRenderable(requestCaptor.capture())
+        val mesh = requestCaptor.firstValue.mesh
+        mesh.segmentCount shouldBe 2
+        mesh.triangleIndices shouldHaveSize 2 * PolylineMesh.INDICES_PER_SEGMENT
     }
 
     @Test
-    fun `should use only one cube renderable for all line segments`() {
+    fun `should not create a node per line segment`() {
+        val point1 = reactArrayOf(1.0, 2.0, 0.0)
+        val point2 = reactArrayOf(3.0, 4.0, 1.0)
+        val point3 = reactArrayOf(4.0, 2.0, 1.5)
+        val points = reactArrayOf(point1, point2, point3)
+        val props = reactMapOf(LineNode.PROP_POINTS, points)
+        val node = createLineNode(props)
+
+        node.build()
+
+        node.contentNode.children shouldHaveSize 0
+    }
+
+    @Test
+    fun `should skip line segments outside of clip bounds`() {
+        val point1 = reactArrayOf(-5.0, 0.0, 0.0)
+        val point2 = reactArrayOf(5.0, 0.0, 0.0)
+        val point3 = reactArrayOf(6.0, 0.0, 0.0)
+        val point4 = reactArrayOf(7.0, 0.0, 0.0)
+        val points = reactArrayOf(point1, point2, point3, point4)
+        val props = reactMapOf(LineNode.PROP_POINTS, points)
+        val node = createLineNode(props)
+        node.build()
+
+        node.clipBounds = AABB(Vector3(-1f, -1f, -1f), Vector3(1f, 1f, 1f))
+
+        val requestCaptor = argumentCaptor<LineRenderableBuilder.LoadRequest>()
+        verify(lineBuilder).buildRenderable(requestCaptor.capture())
+        requestCaptor.firstValue.mesh.visibleSegmentCount shouldBe 1
+        node.getBounding().min.x shouldEqualInexact -1f
+        node.getBounding().max.x shouldEqualInexact 1f
+    }
+
+    @Test
+    fun `should append line segments to existing points`() {
+        val points = reactArrayOf(reactArrayOf(0.0, 0.0, 0.0), reactArrayOf(1.0, 0.0, 0.0))
+        val node = createLineNode(reactMapOf(LineNode.PROP_POINTS, points))
+        node.build()
+
+        node.update(
+            reactMapOf(LineNode.PROP_APPEND_POINTS, reactArrayOf(reactArrayOf(2.0, 0.0, 0.0)))
+        )
+
+        val requestCaptor = argumentCaptor<LineRenderableBuilder.LoadRequest>()
+        verify(lineBuilder).buildRenderable(requestCaptor.capture())
+        requestCaptor.firstValue.mesh.segmentCount shouldBe 2
+        node.getBounding().max.x shouldEqualInexact 2f
+    }
+
+    @Test
+    fun `should drop oldest points when max points count exceeded`() {
+        val points = reactArrayOf(
+            reactArrayOf(0.0, 0.0, 0.0),
+            reactArrayOf(1.0, 0.0, 0.0),
+            reactArrayOf(2.0, 0.0, 0.0)
+        )
+        val props = reactMapOf(LineNode.PROP_POINTS, points, LineNode.PROP_MAX_POINTS, 3.0)
+        val node = createLineNode(props)
+        node.build()
+
+        node.update(
+            reactMapOf(
+                LineNode.PROP_APPEND_POINTS,
+                reactArrayOf(reactArrayOf(3.0, 0.0, 0.0), reactArrayOf(4.0, 0.0, 0.0))
+            )
+        )
+
+        val requestCaptor = argumentCaptor<LineRenderableBuilder.LoadRequest>()
+        verify(lineBuilder).buildRenderable(requestCaptor.capture())
+        requestCaptor.firstValue.mesh.visibleSegmentCount shouldBe 2
+        node.getBounding().min.x shouldEqualInexact 2f
+        node.getBounding().max.x shouldEqualInexact 4f
+    }
+
+    @Test
+    fun `should trim points when max points count decreased`() {
+        val points = reactArrayOf(
+            reactArrayOf(0.0, 0.0, 0.0),
+            reactArrayOf(1.0, 0.0, 0.0),
+            reactArrayOf(2.0, 0.0, 0.0),
+            reactArrayOf(3.0, 0.0, 0.0),
+            reactArrayOf(4.0, 0.0, 0.0)
+        )
+        val node = createLineNode(reactMapOf(LineNode.PROP_POINTS, points))
+        node.build()
+
+        node.update(reactMapOf(LineNode.PROP_MAX_POINTS, 2.0))
+
+        val requestCaptor = argumentCaptor<LineRenderableBuilder.LoadRequest>()
+        verify(lineBuilder).buildRenderable(requestCaptor.capture())
+        requestCaptor.firstValue.mesh.visibleSegmentCount shouldBe 1
+        node.getBounding().min.x shouldEqualInexact 3f
+    }
+
+    @Test
+    fun `should use only one renderable for all line segments`() {
         val point1 = reactArrayOf(1.0, 2.0, 0.0)
         val point2 = reactArrayOf(3.0, 4.0, 1.0)
         val point3 = reactArrayOf(4.0, 2.0, 1.5)
@@ -101,11 +200,11 @@ class LineNodeTest {
 
         node.build()
 
-        verify(cubeBuilder, times(1)).buildRenderable(any())
+        verify(lineBuilder, times(1)).buildRenderable(any())
     }
 
     private fun createLineNode(props: JavaOnlyMap): LineNode {
-        return LineNode(props, cubeBuilder)
+        return LineNode(props, lineBuilder)
     }
 
 }
\ No newline at end of file
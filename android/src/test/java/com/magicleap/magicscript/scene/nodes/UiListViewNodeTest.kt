@@ -24,16 +24,19 @@ import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.bridge.ReadableMap
 import com.google.ar.sceneform.math.Vector3
 import com.magicleap.magicscript.R
+import com.magicleap.magicscript.forceUpdate
 import com.magicleap.magicscript.reactArrayOf
 import com.magicleap.magicscript.reactMapOf
 import com.magicleap.magicscript.scene.nodes.base.TransformNode
 import com.magicleap.magicscript.scene.nodes.base.UiBaseLayout
 import com.magicleap.magicscript.scene.nodes.layouts.UiLinearLayout
+import com.magicleap.magicscript.scene.nodes.props.AABB
 import com.magicleap.magicscript.scene.nodes.views.CustomScrollView
 import com.magicleap.magicscript.shouldEqualInexact
 import com.nhaarman.mockitokotlin2.mock
 import com.nhaarman.mockitokotlin2.spy
 import com.nhaarman.mockitokotlin2.verify
+import org.amshove.kluent.shouldBe
 import org.amshove.kluent.shouldBeInstanceOf
 import org.amshove.kluent.shouldContain
 import org.amshove.kluent.shouldEqual
@@ -147,6 +150,71 @@ class UiListViewNodeTest {
         containerNode.getProperty(UiBaseLayout.PROP_SKIP_INVISIBLE_ITEMS) shouldEqual true
     }
 
+    @Test
+    fun `should disable items outside the viewport when recycling items`() {
+        val props = reactMapOf(
+            UiListViewNode.PROP_HEIGHT, 1.0,
+            UiListViewNode.PROP_RECYCLE_ITEMS, true
+        )
+        val node = createNodeWithViewSpy(props)
+        node.build()
+        val items = List(10) { createItem(height = 0.5f) }
+        items.forEach { node.addContent(it) }
+
+        updateListView(node)
+
+        items.first().isEnabled shouldBe true
+        items.last().isEnabled shouldBe false
+    }
+
+    @Test
+    fun `should enable all items when recycling is turned off`() {
+        val props = reactMapOf(
+            UiListViewNode.PROP_HEIGHT, 1.0,
+            UiListViewNode.PROP_RECYCLE_ITEMS, true
+        )
+        val node = createNodeWithViewSpy(props)
+        node.build()
+        val items = List(10) { createItem(height = 0.5f) }
+        items.forEach { node.addContent(it) }
+        updateListView(node)
+
+        node.update(reactMapOf(UiListViewNode.PROP_RECYCLE_ITEMS, false))
+
+        items.forEach { it.isEnabled shouldBe true }
+    }
+
+    @Test
+    fun `should not disable items when not recycling items`() {
+        val props = reactMapOf(UiListViewNode.PROP_HEIGHT, 1.0)
+        val node = createNodeWithViewSpy(props)
+        node.build()
+        val items = List(10) { createItem(height = 0.5f) }
+        items.forEach { node.addContent(it) }
+
+        updateListView(node)
+
+        items.forEach { it.isEnabled shouldBe true }
+    }
+
+    private fun updateListView(node: UiListViewNode) {
+        val container = node.contentNode.children.first() as UiLinearLayout
+        repeat(3) {
+            container.forceUpdate(0.1f)
+            node.forceUpdate(0.1f)
+        }
+    }
+
+    private fun createItem(height: Float): UiListViewItemNode {
+        val item = object : UiListViewItemNode(reactMapOf(), context, mock(), mock()) {
+            override fun getContentBounding(): AABB {
+                return AABB(Vector3(-0.5f, -height / 2, 0f), Vector3(0.5f, height / 2, 0f))
+            }
+        }
+        item.build()
+        return item
+    }
+
     private fun createNodeWithViewSpy(props: ReadableMap): UiListViewNode {
         return object : UiListViewNode(props, context, mock(), mock()) {
             override fun provideView(context: Context): View {
@@ -31,6 +31,7 @@ import com.magicleap.magicscript.scene.nodes.props.ScrollBarVisibility
 import com.magicleap.magicscript.scene.nodes.views.CustomScrollView
 import com.nhaarman.mockitokotlin2.mock
 import com.nhaarman.mockitokotlin2.spy
+import com.nhaarman.mockitokotlin2.times
 import com.nhaarman.mockitokotlin2.verify
 import org.amshove.kluent.shouldEqual
 import org.amshove.kluent.shouldNotBe
@@ -129,6 +130,30 @@ class UiScrollViewNodeTest {
         contentNode.clipBounds!! shouldEqualInexact expectedClipBounds
     }
 
+    @Test
+    fun `should not measure the content on every frame`() {
+        val content = spy(NodeBuilder().build())
+        tested.addContent(content)
+
+        tested.onUpdate(0.1f)
+        tested.onUpdate(0.1f)
+        tested.onUpdate(0.1f)
+
+        verify(content, times(1)).getContentBounding()
+    }
+
+    @Test
+    fun `should measure the content again when its bounds changed`() {
+        val content = spy(NodeBuilder().build())
+        tested.addContent(content)
+        tested.onUpdate(0.1f)
+
+        content.invalidateBounds()
+        tested.onUpdate(0.1f)
+
+        verify(content, times(2)).getContentBounding()
+    }
+
     @Test
     fun `should apply scroll bars visibility`() {
         tested.update(UiScrollViewNode.PROP_SCROLLBAR_VISIBILITY, "off")
@@ -21,11 +21,17 @@ import android.view.View
 import androidx.test.core.app.ApplicationProvider
 import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.bridge.ReadableMap
+import com.magicleap.magicscript.ar.renderable.ViewRenderableLoader
+import com.magicleap.magicscript.finishViewLoading
 import com.magicleap.magicscript.reactMapOf
+import com.magicleap.magicscript.shouldEqualInexact
+import com.nhaarman.mockitokotlin2.any
 import com.nhaarman.mockitokotlin2.mock
 import com.nhaarman.mockitokotlin2.spy
+import com.nhaarman.mockitokotlin2.times
 import com.nhaarman.mockitokotlin2.verify
 import com.magicleap.magicscript.scene.nodes.views.CustomSlider
+import com.magicleap.magicscript.utils.Vector2
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -80,8 +86,26 @@ class UiSliderNodeTest {
         verify(viewSpy).max = maxValue.toFloat()
     }
 
-    private fun createNodeWithViewSpy(props: ReadableMap): UiSliderNode {
-        return object : UiSliderNode(props, context, mock(), mock()) {
+    @Test
+    fun shouldResizeWithoutLoadingNewRenderableWhenSizeUpdated() {
+        val viewRenderableLoader = mock<ViewRenderableLoader>()
+        val props = reactMapOf(UiSliderNode.PROP_WIDTH, 0.5, UiSliderNode.PROP_HEIGHT, 0.04)
+        val node = createNodeWithViewSpy(props, viewRenderableLoader)
+        node.build()
+        finishViewLoading(viewRenderableLoader)
+
+        node.update(reactMapOf(UiSliderNode.PROP_WIDTH, 0.8, UiSliderNode.PROP_HEIGHT, 0.06))
+        node.onUpdate(0f)
+
+        node.size shouldEqualInexact Vector2(0.8f, 0.06f)
+        verify(viewRenderableLoader, times(1)).loadRenderable(any())
+    }
+
+    private fun createNodeWithViewSpy(
+        props: ReadableMap,
+        viewRenderableLoader: ViewRenderableLoader = mock()
+    ): UiSliderNode {
+        return object : UiSliderNode(props, context, viewRenderableLoader, mock()) {
             override fun provideView(context: Context): View {
                 return viewSpy
             }
@@ -26,6 +26,8 @@ import androidx.test.core.app.ApplicationProvider
 import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.bridge.ReadableMap
 import com.google.ar.sceneform.math.Vector3
+import com.magicleap.magicscript.ar.renderable.ViewRenderableLoader
+import com.magicleap.magicscript.finishViewLoading
 import com.magicleap.magicscript.font.FontProvider
 import com.magicleap.magicscript.font.FontStyle
 import com.magicleap.magicscript.font.FontWeight
@@ -36,6 +38,7 @@ import com.magicleap.magicscript.shouldEqualInexact
 import com.magicleap.magicscript.utils.Utils
 import com.nhaarman.mockitokotlin2.*
 import org.amshove.kluent.shouldBe
+import org.amshove.kluent.shouldBeGreaterThan
 import org.amshove.kluent.shouldEqual
 import org.junit.Assert.assertEquals
 import org.junit.Before
@@ -223,8 +226,42 @@ class UiTextNodeTest {
         initialBounds.equalInexact(node.getBounding()) shouldBe false
     }
 
-    private fun createNodeWithViewSpy(props: ReadableMap): UiTextNode {
-        return object : UiTextNode(props, context, mock(), mock(), fontProvider) {
+    @Test
+    fun `should not rebuild when text changed to the same size`() {
+        val viewRenderableLoader = mock<ViewRenderableLoader>()
+        val node = createNodeWithViewSpy(reactMapOf(UiTextNode.PROP_TEXT, "12"), viewRenderableLoader)
+        node.build()
+        finishViewLoading(viewRenderableLoader)
+        val initialSize = node.size
+
+        node.update(reactMapOf(UiTextNode.PROP_TEXT, "34"))
+        node.onUpdate(0f)
+
+        viewSpy.text.toString() shouldEqual "34"
+        node.size shouldEqual initialSize
+        verify(viewRenderableLoader, times(1)).loadRenderable(any())
+    }
+
+    @Test
+    fun `should resize in place when text changed to a longer one`() {
+        val viewRenderableLoader = mock<ViewRenderableLoader>()
+        val node = createNodeWithViewSpy(reactMapOf(UiTextNode.PROP_TEXT, "abc"), viewRenderableLoader)
+        node.build()
+        finishViewLoading(viewRenderableLoader)
+        val initialSize = node.size
+
+        node.update(reactMapOf(UiTextNode.PROP_TEXT, "much longer text"))
+        node.onUpdate(0f)
+
+        node.size.x shouldBeGreaterThan initialSize.x
+        verify(viewRenderableLoader, times(1)).loadRenderable(any())
+    }
+
+    private fun createNodeWithViewSpy(
+        props: ReadableMap,
+        viewRenderableLoader: ViewRenderableLoader = mock()
+    ): UiTextNode {
+        return object : UiTextNode(props, context, viewRenderableLoader, mock(), fontProvider) {
             override fun provideView(context: Context): View {
                 return viewSpy
             }
@@ -120,6 +120,16 @@ class VideoNodeTest {
         verify(videoPlayer, never()).start()
     }
 
+    @Test
+    fun `should reload evicted player when start action sent and it is not ready`() {
+        whenever(videoPlayer.isReady).thenReturn(false)
+        val props = reactMapOf(VideoNode.PROP_ACTION, VideoNode.ACTION_START)
+
+        videoNode.update(props)
+
+        verify(videoPlayer).reloadIfEvicted()
+    }
+
     @Test
     fun `should pause player when pause action sent and is playing`() {
         whenever(videoPlayer.isReady).thenReturn(true)
@@ -17,6 +17,7 @@ package com.magicleap.magicscript.scene.nodes.audio
 
 import android.net.Uri
 import androidx.test.core.app.ApplicationProvider
+import com.google.ar.sceneform.Node
 import com.google.ar.sceneform.math.Vector3
 import com.magicleap.magicscript.*
 import com.magicleap.magicscript.scene.nodes.audio.model.SpatialSoundDistance
@@ -187,6 +188,22 @@ class AudioNodeTest {
         verify(audioEngine, never()).resume()
     }
 
+    @Test
+    fun `should update sound position when parent node moves`() {
+        tested.update(
+            reactMapOf()
+                .spatialSoundEnable(true)
+                .spatialSoundPosition(4.0, arrayOf(0.0, 1.0, 2.0))
+        )
+        val parent = Node()
+        parent.addChild(tested)
+
+        parent.localPosition = Vector3(1f, 0f, 0f)
+        tested.onUpdate(0.016f)
+
+        verify(audioEngine).setSoundObjectPosition(Vector3(1f, 1f, 2f))
+    }
+
     @Test
     fun `should apply SpatialSoundPosition`() {
         tested.update(
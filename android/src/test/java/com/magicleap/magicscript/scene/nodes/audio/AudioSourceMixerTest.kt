@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.scene.nodes.audio
+
+import org.amshove.kluent.shouldBe
+import org.amshove.kluent.shouldEqual
+import org.junit.Test
+
+class AudioSourceMixerTest {
+
+    private val mixer = AudioSourceMixer(maxActiveSources = 2)
+
+    @Test
+    fun `should not virtualize sources within budget`() {
+        val first = TestSource(priority = 1f)
+        val second = TestSource(priority = 0.5f)
+
+        mixer.onSourceStarted(first)
+        mixer.onSourceStarted(second)
+
+        first.virtualizedState shouldBe false
+        second.virtualizedState shouldBe false
+    }
+
+    @Test
+    fun `should virtualize lowest priority source when budget exceeded`() {
+        val loud = TestSource(priority = 1f)
+        val quiet = TestSource(priority = 0.2f)
+        val medium = TestSource(priority = 0.5f)
+
+        mixer.onSourceStarted(loud)
+        mixer.onSourceStarted(quiet)
+        mixer.onSourceStarted(medium)
+
+        loud.virtualizedState shouldBe false
+        medium.virtualizedState shouldBe false
+        quiet.virtualizedState shouldBe true
+    }
+
+    @Test
+    fun `should make virtualized source audible when other source stopped`() {
+        val loud = TestSource(priority = 1f)
+        val quiet = TestSource(priority = 0.2f)
+        val medium = TestSource(priority = 0.5f)
+        mixer.onSourceStarted(loud)
+        mixer.onSourceStarted(quiet)
+        mixer.onSourceStarted(medium)
+
+        mixer.onSourceStopped(loud)
+
+        quiet.virtualizedState shouldBe false
+        mixer.activeSourcesCount shouldEqual 2
+    }
+
+    @Test
+    fun `should remove finished sources when new source started`() {
+        val finished = TestSource(priority = 1f)
+        mixer.onSourceStarted(finished)
+        finished.isPlaying = false
+
+        mixer.onSourceStarted(TestSource(priority = 1f))
+
+        mixer.activeSourcesCount shouldEqual 1
+    }
+
+    private class TestSource(override val priority: Float) : AudioSourceMixer.Source {
+        override var isPlaying = true
+        var virtualizedState = false
+
+        override fun setVirtualized(virtualized: Boolean) {
+            virtualizedState = virtualized
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.scene.nodes.audio
+
+import com.google.ar.core.Pose
+import com.google.ar.core.TrackingState
+import com.google.ar.sceneform.math.Vector3
+import com.magicleap.magicscript.ar.ArResourcesProvider
+import com.nhaarman.mockitokotlin2.*
+import org.junit.Test
+import java.io.File
+import java.util.concurrent.ExecutorService
+
+class SharedAudioEngineTest {
+
+    private val executor = mock<ExecutorService> {
+        on { submit(any()) } doAnswer { invocation ->
+            (invocation.arguments[0] as Runnable).run()
+            null
+        }
+    }
+    private val engine: ExternalAudioEngine = mock()
+    private val arResourcesProvider: ArResourcesProvider = mock()
+
+    private val tested = SharedAudioEngine(executor, engine, arResourcesProvider)
+
+    @Test
+    fun `should register for camera updates`() {
+        verify(arResourcesProvider).addCameraUpdatedListener(tested)
+    }
+
+    @Test
+    fun `should update head pose once per camera update`() {
+        tested.onCameraUpdated(Pose.makeTranslation(1f, 2f, 3f), TrackingState.TRACKING)
+
+        verify(engine, times(1)).setHeadPosition(1f, 2f, 3f)
+        verify(engine, times(1)).setHeadRotation(any(), any(), any(), any())
+        verify(engine, times(1)).update()
+    }
+
+    @Test
+    fun `should not update head pose when camera moved below threshold`() {
+        tested.onCameraUpdated(Pose.makeTranslation(1f, 2f, 3f), TrackingState.TRACKING)
+
+        tested.onCameraUpdated(Pose.makeTranslation(1.001f, 2f, 3f), TrackingState.TRACKING)
+
+        verify(engine, times(1)).setHeadPosition(any(), any(), any())
+        verify(engine, times(2)).update()
+    }
+
+    @Test
+    fun `should not update head pose when camera jitters around the last head pose`() {
+        tested.onCameraUpdated(Pose.makeTranslation(1f, 2f, 3f), TrackingState.TRACKING)
+
+        repeat(10) {
+            tested.onCameraUpdated(Pose.makeTranslation(1.003f, 2f, 3f), TrackingState.TRACKING)
+            tested.onCameraUpdated(Pose.makeTranslation(0.997f, 2f, 3f), TrackingState.TRACKING)
+        }
+
+        verify(engine, times(1)).setHeadPosition(any(), any(), any())
+    }
+
+    @Test
+    fun `should update head pose when camera slowly moved away from the last head pose`() {
+        tested.onCameraUpdated(Pose.makeTranslation(1f, 2f, 3f), TrackingState.TRACKING)
+
+        tested.onCameraUpdated(Pose.makeTranslation(1.002f, 2f, 3f), TrackingState.TRACKING)
+        tested.onCameraUpdated(Pose.makeTranslation(1.004f, 2f, 3f), TrackingState.TRACKING)
+        tested.onCameraUpdated(Pose.makeTranslation(1.006f, 2f, 3f), TrackingState.TRACKING)
+
+        verify(engine, times(2)).setHeadPosition(any(), any(), any())
+        verify(engine).setHeadPosition(1.006f, 2f, 3f)
+    }
+
+    @Test
+    fun `should pass source position to engine once per frame`() {
+        val source = tested.createSource()
+        source.spatialSoundEnabled(true)
+        source.load(File("sound.mp3"))
+
+        source.setSoundObjectPosition(Vector3(1f, 0f, 0f))
+        source.setSoundObjectPosition(Vector3(2f, 0f, 0f))
+        verify(engine, never()).setSoundObjectPosition(any(), any(), any(), any())
+
+        tested.onCameraUpdated(Pose.IDENTITY, TrackingState.TRACKING)
+
+        verify(engine, times(1)).setSoundObjectPosition(any(), any(), any(), any())
+        verify(engine).setSoundObjectPosition(any(), eq(2f), eq(0f), eq(0f))
+    }
+
+    @Test
+    fun `should pause engine once when paused`() {
+        tested.createSource()
+        tested.createSource()
+
+        tested.pause()
+
+        verify(engine, times(1)).pause()
+    }
+
+    @Test
+    fun `should resume engine when resumed`() {
+        tested.pause()
+
+        tested.resume()
+
+        verify(engine).resume()
+    }
+
+    @Test
+    fun `should unregister from camera updates when released`() {
+        tested.release()
+
+        verify(arResourcesProvider).removeCameraUpdatedListener(tested)
+        verify(executor).shutdownNow()
+    }
+
+}
@@ -213,6 +213,27 @@ class VrAudioEngineTest {
         verify(engine).playSound(any(), looping = eq(false))
     }
 
+    @Test
+    fun `should pause only its own sound`() {
+        tested.load(file)
+        tested.play()
+
+        tested.pause()
+
+        verify(engine).pauseSound(any())
+        verify(engine, never()).pause()
+    }
+
+    @Test
+    fun `should mute sound when virtualized by mixer`() {
+        tested.load(file)
+        tested.setSoundVolume(0.5f)
+
+        tested.setVirtualized(true)
+
+        verify(engine).setSoundVolume(any(), eq(0f))
+    }
+
     @Test
     fun `should stop and unload audio onDestroy`() {
         tested.load(file)
@@ -318,5 +318,73 @@ class TransformNodeTest {
         listenerCalled shouldBe false
     }
 
+    @Test
+    fun `should decode property again after update`() {
+        val bounds = reactMapOf(
+            "min", reactArrayOf(-1.0, -1.0, -1.0),
+            "max", reactArrayOf(1.0, 1.0, 1.0)
+        )
+        val node = BoundsNode(reactMapOf("bounds", bounds))
+        val initialBounds = node.readBounds()
+
+        node.readBounds() shouldBe initialBounds
+
+        node.update(reactMapOf("bounds", reactMapOf(
+            "min", reactArrayOf(-2.0, -2.0, -2.0),
+            "max", reactArrayOf(2.0, 2.0, 2.0)
+        )))
+
+        node.readBounds() shouldEqual AABB(Vector3(-2f, -2f, -2f), Vector3(2f, 2f, 2f))
+    }
+
+    @Test
+    fun `should stop measuring bounding when it is stable`() {
+        val node = MeasuredNode()
+        repeat(100) { node.forceUpdate(0.016f) }
+        val measuresCount = node.measuresCount
+
+        repeat(100) { node.forceUpdate(0.016f) }
+
+        node.measuresCount shouldEqual measuresCount
+    }
+
+    @Test
+    fun `should measure bounding again when properties updated`() {
+        val node = MeasuredNode()
+        repeat(100) { node.forceUpdate(0.016f) }
+        val measuresCount = node.measuresCount
+
+        node.update(reactMapOf().localPosition(1.0, 0.0, 0.0))
+        node.forceUpdate(0.016f)
+
+        node.measuresCount shouldEqual measuresCount + 1
+    }
+
+    @Test
+    fun `should notify parent when child bounding invalidated`() {
+        val parent = MeasuredNode()
+        val child = MeasuredNode()
+        parent.addContent(child)
+        repeat(100) { parent.forceUpdate(0.016f) }
+        val measuresCount = parent.measuresCount
+
+        child.update(reactMapOf().localPosition(1.0, 0.0, 0.0))
+        parent.forceUpdate(0.016f)
+
+        parent.measuresCount shouldEqual measuresCount + 1
+    }
+
+    private class BoundsNode(props: JavaOnlyMap) : TransformNode(props, false) {
+        fun readBounds() = readProperty<AABB>("bounds")
+    }
+
+    private class MeasuredNode : TransformNode(JavaOnlyMap(), false) {
+        var measuresCount = 0
+
+        override fun getContentBounding(): AABB {
+            measuresCount++
+            return super.getContentBounding()
+        }
+    }
 
-}
\ No newline at end of file
+}
@@ -229,6 +229,15 @@ class UiNodeTest {
         verify(nodeClipper).applyClipBounds(eq(node), eq(clipBounds))
     }
 
+    @Test
+    fun `should not apply clip bounds again when assigned the same bounds`() {
+        node.clipBounds = AABB(min = Vector3(0.5f, 0.5f, -1f), max = Vector3(1f, 1f, 1f))
+
+        node.clipBounds = AABB(min = Vector3(0.5f, 0.5f, -1f), max = Vector3(1f, 1f, 1f))
+
+        verify(nodeClipper, times(1)).applyClipBounds(eq(node), any())
+    }
+
     @Test
     fun `should apply clip bounds again when local position changed`() {
         val clipBounds = AABB(min = Vector3(0.5f, 0.5f, -1f), max = Vector3(1f, 1f, 1f))
@@ -19,6 +19,8 @@ package com.magicleap.magicscript.scene.nodes.layouts.manager
 import android.content.Context
 import androidx.test.core.app.ApplicationProvider
 import com.google.ar.sceneform.math.Vector3
+import com.magicleap.magicscript.NodeBuilder
+import com.magicleap.magicscript.ReadsCountingMap
 import com.magicleap.magicscript.UiNodeBuilder
 import com.magicleap.magicscript.layoutUntilStableBounds
 import com.magicleap.magicscript.scene.nodes.base.TransformNode
@@ -29,6 +31,7 @@ import com.magicleap.magicscript.scene.nodes.props.Alignment
 import com.magicleap.magicscript.scene.nodes.props.Padding
 import com.magicleap.magicscript.shouldEqualInexact
 import com.magicleap.magicscript.utils.Vector2
+import org.amshove.kluent.shouldBeLessThan
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -157,6 +160,33 @@ class HorizontalLinearLayoutManagerTest {
         childrenList[1].localPosition shouldEqualInexact Vector3(5.5f, -5f, 0f)
     }
 
+    @Test
+    fun `should layout 10000 children in linear time`() {
+        val padding = Padding(0f, 0.5f, 0f, 0.5f)
+        val childBounds = AABB(min = Vector3(0f, -1f, 0f), max = Vector3(1f, 0f, 0f))
+
+        val readsCounts = listOf(1000, 10000).map { count ->
+            val children = List(count) { NodeBuilder().build() }
+            val bounds = ReadsCountingMap(children.associateWith { childBounds })
+            val paddings = ReadsCountingMap(children.associateWith { padding })
+            val params = LayoutParams(
+                size = Vector2(WRAP_CONTENT_DIMENSION, WRAP_CONTENT_DIMENSION),
+                itemsAlignment = emptyMap(),
+                itemsPadding = paddings
+            )
+
+            linearManager.layoutChildren(params, children, bounds)
+
+            children[1].localPosition shouldEqualInexact Vector3(2.5f, 0f, 0f)
+            children.last().localPosition shouldEqualInexact Vector3(2f * count - 1.5f, 0f, 0f)
+            linearManager.getLayoutBounds(params).max shouldEqualInexact Vector3(2f * count, 0f, 0f)
+            bounds.readsCount + paddings.readsCount
+        }
+
+        // 10 times more children should need 10 times more reads (not 100 times)
+        readsCounts[1] shouldBeLessThan readsCounts[0] * 11
+    }
+
     private fun getLayoutParams() =
         LayoutParams(
             size = size,
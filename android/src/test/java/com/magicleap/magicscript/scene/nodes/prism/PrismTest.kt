@@ -20,8 +20,10 @@ import android.content.Context
 import androidx.test.core.app.ApplicationProvider
 import com.facebook.react.bridge.JavaOnlyArray
 import com.facebook.react.bridge.JavaOnlyMap
+import com.google.ar.core.Anchor
 import com.google.ar.core.Pose
 import com.google.ar.core.TrackingState
+import com.google.ar.sceneform.AnchorNode
 import com.google.ar.sceneform.math.Quaternion
 import com.google.ar.sceneform.math.Vector3
 import com.google.ar.sceneform.ux.FootprintSelectionVisualizer
@@ -33,6 +35,7 @@ import com.magicleap.magicscript.ar.ArResourcesProvider
 import com.magicleap.magicscript.ar.CustomArFragment
 import com.magicleap.magicscript.ar.renderable.CubeRenderableBuilder
 import com.magicleap.magicscript.ar.renderable.ModelRenderableLoader
+import com.magicleap.magicscript.ar.renderable.ViewRenderableLoader
 import com.magicleap.magicscript.scene.ReactScene
 import com.magicleap.magicscript.scene.nodes.UiTextNode
 import com.magicleap.magicscript.scene.nodes.props.AABB
@@ -64,6 +67,7 @@ class PrismTest {
     private val context = ApplicationProvider.getApplicationContext<Context>()
     private val cubeBuilder: CubeRenderableBuilder = mock()
     private val modelLoader: ModelRenderableLoader = mock()
+    private val viewLoader: ViewRenderableLoader = mock()
     private val anchorCreator: AnchorCreator = mock()
     private val arResourcesProvider: ArResourcesProvider = mock()
 
@@ -162,6 +166,38 @@ class PrismTest {
         verifyZeroInteractions(anchorCreator)
     }
 
+    @Test
+    fun `should anchor to anchor node when it becomes available`() {
+        val uuid = UUID.randomUUID().toString()
+        val prism = buildPrism(reactMapOf(Prism.PROP_ANCHOR_UUID, uuid))
+        val anchor = mock<Anchor>()
+        val anchorNode = AnchorNode(anchor)
+
+        verify(arResourcesProvider).addAnchorNodeListener(uuid, prism)
+        prism.onAnchorNodeAvailable(uuid, anchorNode)
+
+        prism.anchor shouldBe anchor
+        verify(arResourcesProvider).removeAnchorNodeListener(uuid, prism)
+    }
+
+    @Test
+    fun `should anchor to anchor node that appears after the prism is created`() {
+        val uuid = UUID.randomUUID().toString()
+        val prism = buildPrism(reactMapOf(Prism.PROP_ANCHOR_UUID, uuid))
+        val anchor = mock<Anchor>()
+        val cameraPose = Utils.createPose(Vector3.zero(), Quaternion.identity())
+
+        prism.onCameraUpdated(cameraPose, TrackingState.TRACKING)
+        // anchor node created by the host app without notifying the listeners
+        whenever(arResourcesProvider.findAnchorNode(uuid)).thenReturn(AnchorNode(anchor))
+        repeat(30) {
+            prism.onCameraUpdated(cameraPose, TrackingState.TRACKING)
+        }
+
+        prism.anchor shouldBe anchor
+        verify(arResourcesProvider).removeAnchorNodeListener(uuid, prism)
+    }
+
     @Test
     fun `should anchor the node at updated position if mode is normal`() {
         val prism = buildPrism(reactMapOf(Prism.PROP_MODE, Prism.MODE_NORMAL))
@@ -469,6 +505,7 @@ class PrismTest {
         return Prism(
             props,
             context,
+            viewLoader,
             modelLoader,
             cubeBuilder,
             anchorCreator,
@@ -20,12 +20,16 @@ import android.content.Context
 import androidx.test.core.app.ApplicationProvider
 import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.bridge.ReadableMap
+import com.magicleap.magicscript.ar.renderable.ViewRenderableLoader
+import com.magicleap.magicscript.finishViewLoading
 import com.magicleap.magicscript.reactArrayOf
 import com.magicleap.magicscript.reactMapOf
 import com.magicleap.magicscript.update
 import com.magicleap.magicscript.utils.Utils
+import com.nhaarman.mockitokotlin2.any
 import com.nhaarman.mockitokotlin2.eq
 import com.nhaarman.mockitokotlin2.mock
+import com.nhaarman.mockitokotlin2.times
 import com.nhaarman.mockitokotlin2.verify
 import org.junit.Assert.assertEquals
 import org.junit.Before
@@ -101,8 +105,37 @@ class UiToggleNodeTest {
         verify(toggleViewManager).setTextColor(0xFFFFFFFF.toInt())
     }
 
-    fun createNode(props: ReadableMap): UiToggleNode {
-        return UiToggleNode(props, context, mock(), mock(), toggleViewManager)
+    @Test
+    fun `should resize without loading a new renderable when text updated`() {
+        val viewRenderableLoader = mock<ViewRenderableLoader>()
+        val toggle = createNode(JavaOnlyMap(), viewRenderableLoader)
+        toggle.build()
+        finishViewLoading(viewRenderableLoader)
+
+        toggle.update(UiToggleNode.PROP_TEXT, "new label")
+        toggle.onUpdate(0f)
+
+        verify(viewRenderableLoader, times(1)).loadRenderable(any())
+    }
+
+    @Test
+    fun `should load a new renderable when type updated`() {
+        val viewRenderableLoader = mock<ViewRenderableLoader>()
+        val toggle = createNode(JavaOnlyMap(), viewRenderableLoader)
+        toggle.build()
+        finishViewLoading(viewRenderableLoader)
+
+        toggle.update(UiToggleNode.PROP_TYPE, UiToggleNode.TYPE_CHECKBOX)
+        toggle.onUpdate(0f)
+
+        verify(viewRenderableLoader, times(2)).loadRenderable(any())
+    }
+
+    fun createNode(
+        props: ReadableMap,
+        viewRenderableLoader: ViewRenderableLoader = mock()
+    ): UiToggleNode {
+        return UiToggleNode(props, context, viewRenderableLoader, mock(), toggleViewManager)
     }
 
 }
\ No newline at end of file
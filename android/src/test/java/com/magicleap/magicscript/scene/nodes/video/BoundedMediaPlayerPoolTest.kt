@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.scene.nodes.video
+
+import android.media.MediaPlayer
+import com.nhaarman.mockitokotlin2.mock
+import com.nhaarman.mockitokotlin2.never
+import com.nhaarman.mockitokotlin2.verify
+import org.amshove.kluent.shouldBe
+import org.amshove.kluent.shouldEqual
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class BoundedMediaPlayerPoolTest {
+
+    private val createdPlayers = mutableListOf<MediaPlayer>()
+
+    private val pool = BoundedMediaPlayerPool(maxPlayers = 2, playerFactory = {
+        mock<MediaPlayer>().also { createdPlayers.add(it) }
+    })
+
+    @Test
+    fun `should reuse released player`() {
+        val player = pool.acquireMediaPlayer {}
+        pool.releaseMediaPlayer(player)
+
+        val reusedPlayer = pool.acquireMediaPlayer {}
+
+        reusedPlayer shouldBe player
+        createdPlayers.size shouldEqual 1
+        verify(player).reset()
+        verify(player, never()).release()
+    }
+
+    @Test
+    fun `should evict least recently used player when limit reached`() {
+        var firstEvicted = false
+        var secondEvicted = false
+        val first = pool.acquireMediaPlayer { firstEvicted = true }
+        val second = pool.acquireMediaPlayer { secondEvicted = true }
+        pool.onMediaPlayerUsed(first)
+
+        val third = pool.acquireMediaPlayer {}
+
+        third shouldBe second
+        secondEvicted shouldBe true
+        firstEvicted shouldBe false
+        pool.playersCount shouldEqual 2
+        pool.playersInUseCount shouldEqual 2
+    }
+
+    @Test
+    fun `should release all players on destroy`() {
+        val first = pool.acquireMediaPlayer {}
+        val second = pool.acquireMediaPlayer {}
+        pool.releaseMediaPlayer(second)
+
+        pool.destroy()
+
+        verify(first).release()
+        verify(second).release()
+        pool.playersCount shouldEqual 0
+    }
+
+}
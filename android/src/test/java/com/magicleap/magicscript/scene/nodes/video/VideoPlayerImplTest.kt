@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.magicleap.magicscript.scene.nodes.video
+
+import android.media.MediaPlayer
+import android.net.Uri
+import android.view.Surface
+import androidx.test.core.app.ApplicationProvider
+import com.magicleap.magicscript.utils.FileProvider
+import com.nhaarman.mockitokotlin2.*
+import org.amshove.kluent.shouldBe
+import org.amshove.kluent.shouldEqual
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class VideoPlayerImplTest {
+
+    private val createdPlayers = mutableListOf<MediaPlayer>()
+    private val pool = BoundedMediaPlayerPool(maxPlayers = 1, playerFactory = {
+        mock<MediaPlayer>().also { createdPlayers.add(it) }
+    })
+    private val fileProvider: FileProvider = mock()
+    private val videoUri = Uri.parse("http://video.com/sample.mp4")
+
+    @Test
+    fun `should reload evicted video and start it when loaded again`() {
+        val evictedVideo = createVideoPlayer()
+        var loadedCount = 0
+        evictedVideo.loadVideo(videoUri, surface = mock(), onLoadedListener = {
+            loadedCount++
+            evictedVideo.start()
+        })
+        val mediaPlayer = createdPlayers.single()
+        evictedVideo.onPrepared(mediaPlayer)
+
+        // the only media player is taken over by another video
+        createVideoPlayer().loadVideo(videoUri, surface = mock(), onLoadedListener = {})
+        evictedVideo.isReady shouldBe false
+
+        evictedVideo.reloadIfEvicted()
+        evictedVideo.onPrepared(mediaPlayer)
+
+        evictedVideo.isReady shouldBe true
+        loadedCount shouldEqual 2
+        verify(mediaPlayer, times(2)).start()
+    }
+
+    @Test
+    fun `should not reload video that has not been evicted`() {
+        val video = createVideoPlayer()
+        video.loadVideo(videoUri, surface = mock(), onLoadedListener = {})
+
+        video.reloadIfEvicted()
+
+        verify(createdPlayers.single(), times(1)).prepareAsync()
+    }
+
+    private fun createVideoPlayer(): VideoPlayerImpl {
+        return VideoPlayerImpl(ApplicationProvider.getApplicationContext(), fileProvider, pool)
+    }
+
+}
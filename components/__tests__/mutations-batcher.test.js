@@ -0,0 +1,86 @@
+import { MutationsBatcher } from "platform/mutations-batcher.js";
+
+const createComponentManager = () => ({
+  applyMutations: jest.fn(),
+  clearScene: jest.fn(),
+  updateLayout: jest.fn(),
+  createButtonNode: jest.fn(),
+  createGroupNode: jest.fn(),
+  addChildNode: jest.fn(),
+  addChildNodeToContainer: jest.fn(),
+  removeChildNode: jest.fn(),
+  removeChildNodeFromRoot: jest.fn(),
+  updateNode: jest.fn(),
+  addOnActivateEventHandler: jest.fn(),
+  addOnPrismModeChangedEventHandler: jest.fn()
+});
+
+describe("MutationsBatcher", () => {
+  test("should send recorded mutations in a single call", () => {
+    const componentManager = createComponentManager();
+    const batcher = new MutationsBatcher(componentManager);
+
+    batcher.createGroupNode({}, "1");
+    batcher.createButtonNode({ text: "a" }, "2");
+    batcher.addChildNode("2", "1");
+    batcher.addChildNodeToContainer("1");
+    batcher.addOnActivateEventHandler("2");
+    batcher.updateNode("2", { text: "b" });
+    batcher.removeChildNode("2", "1");
+    batcher.flush();
+
+    expect(componentManager.applyMutations).toHaveBeenCalledTimes(1);
+    expect(componentManager.applyMutations).toHaveBeenCalledWith([
+      { op: "create", type: "view", id: "1", props: {} },
+      { op: "create", type: "button", id: "2", props: { text: "a" } },
+      { op: "add", id: "2", parentId: "1" },
+      { op: "add", id: "1" },
+      { op: "subscribe", id: "2", event: "onActivate" },
+      { op: "update", id: "2", props: { text: "b" } },
+      { op: "remove", id: "2" }
+    ]);
+    expect(componentManager.createButtonNode).not.toHaveBeenCalled();
+  });
+
+  test("should subscribe prism events with their emitted names", () => {
+    const componentManager = createComponentManager();
+    const batcher = new MutationsBatcher(componentManager);
+
+    batcher.addOnPrismModeChangedEventHandler("1");
+    batcher.flush();
+
+    expect(componentManager.applyMutations).toHaveBeenCalledWith([
+      { op: "subscribe", id: "1", event: "onModeChanged" }
+    ]);
+  });
+
+  test("should flush mutations before other calls", () => {
+    const componentManager = createComponentManager();
+    const batcher = new MutationsBatcher(componentManager);
+
+    batcher.createGroupNode({}, "1");
+    batcher.updateLayout();
+
+    expect(componentManager.applyMutations).toHaveBeenCalledTimes(1);
+    expect(componentManager.updateLayout).toHaveBeenCalledTimes(1);
+  });
+
+  test("should flush mutations in a microtask", async () => {
+    const componentManager = createComponentManager();
+    const batcher = new MutationsBatcher(componentManager);
+
+    batcher.createGroupNode({}, "1");
+    await Promise.resolve();
+
+    expect(componentManager.applyMutations).toHaveBeenCalledTimes(1);
+  });
+
+  test("should not send empty batch", () => {
+    const componentManager = createComponentManager();
+    const batcher = new MutationsBatcher(componentManager);
+
+    batcher.flush();
+
+    expect(componentManager.applyMutations).not.toHaveBeenCalled();
+  });
+});
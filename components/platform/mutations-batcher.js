@@ -0,0 +1,129 @@
+// Copyright (c) 2019-2020 Magic Leap, Inc. All Rights Reserved
+
+// Element types of the "create" mutation (see ARComponentManager.applyMutations on Android)
+const CREATE_TYPES = {
+    createScene: 'scene',
+    createPrism: 'prism',
+    createGroupNode: 'view',
+    createAudioNode: 'audio',
+    createButtonNode: 'button',
+    createCircleConfirmationNode: 'circleConfirmation',
+    createColorPickerNode: 'colorPicker',
+    createContentNode: 'content',
+    createDatePickerNode: 'datePicker',
+    createDialogNode: 'dialog',
+    createDropdownListNode: 'dropdownList',
+    createDropdownListItemNode: 'dropdownListItem',
+    createFilePickerNode: 'filePicker',
+    createGridLayoutNode: 'gridLayout',
+    createImageNode: 'image',
+    createLineNode: 'line',
+    createLinearLayoutNode: 'linearLayout',
+    createListViewNode: 'listView',
+    createListViewItemNode: 'listViewItem',
+    createModelNode: 'model',
+    createPageViewNode: 'pageView',
+    createPanelNode: 'panel',
+    createProgressBarNode: 'progressBar',
+    createRectLayoutNode: 'rectLayout',
+    createScrollBarNode: 'scrollBar',
+    createScrollViewNode: 'scrollView',
+    createSliderNode: 'slider',
+    createSpinnerNode: 'spinner',
+    createTabNode: 'tab',
+    createTextNode: 'text',
+    createTextEditNode: 'textEdit',
+    createTimePickerNode: 'timePicker',
+    createToggleNode: 'toggle',
+    createToggleGroupNode: 'toggleGroup',
+    createVideoNode: 'video',
+    createWebViewNode: 'webView',
+};
+
+// Prism events are subscribed with different names than they are emitted
+const PRISM_EVENTS = {
+    addOnPrismModeChangedEventHandler: 'onModeChanged',
+    addOnPrismRotationChangedEventHandler: 'onRotationChanged',
+    addOnPrismScaleChangedEventHandler: 'onScaleChanged',
+    addOnPrismPositionChangedEventHandler: 'onPositionChanged',
+};
+
+const EVENT_HANDLER_PATTERN = /^addOn(\w+)EventHandler$/;
+
+// Records the scene changes made through the native component manager API
+// and sends them in a single applyMutations call, instead of one bridge call
+// per node, child and event handler. The mutations are flushed explicitly
+// (after a React commit) or at the latest in a microtask.
+export class MutationsBatcher {
+
+    constructor(componentManager) {
+        this._componentManager = componentManager;
+        this._mutations = [];
+        this._flushScheduled = false;
+
+        Object.keys(componentManager).forEach(method => {
+            if (typeof componentManager[method] === 'function' && this[method] === undefined) {
+                this[method] = this._createMethod(method);
+            }
+        });
+    }
+
+    addChildNode(nodeId, parentId) {
+        this._record({ op: 'add', id: nodeId, parentId });
+    }
+
+    addChildNodeToContainer(nodeId) {
+        this._record({ op: 'add', id: nodeId });
+    }
+
+    removeChildNode(nodeId, parentId) {
+        this._record({ op: 'remove', id: nodeId });
+    }
+
+    removeChildNodeFromRoot(nodeId) {
+        this._record({ op: 'remove', id: nodeId });
+    }
+
+    updateNode(nodeId, props) {
+        this._record({ op: 'update', id: nodeId, props });
+    }
+
+    flush() {
+        if (this._mutations.length === 0) {
+            return;
+        }
+        const mutations = this._mutations;
+        this._mutations = [];
+        this._componentManager.applyMutations(mutations);
+    }
+
+    _createMethod(method) {
+        const type = CREATE_TYPES[method];
+        if (type !== undefined) {
+            return (props, nodeId) => this._record({ op: 'create', type, id: nodeId, props });
+        }
+
+        const match = method.match(EVENT_HANDLER_PATTERN);
+        if (match !== null) {
+            const event = PRISM_EVENTS[method] || `on${match[1]}`;
+            return (nodeId) => this._record({ op: 'subscribe', id: nodeId, event });
+        }
+
+        // other calls (e.g. clearScene) must not overtake the recorded mutations
+        return (...args) => {
+            this.flush();
+            return this._componentManager[method](...args);
+        };
+    }
+
+    _record(mutation) {
+        this._mutations.push(mutation);
+        if (!this._flushScheduled) {
+            this._flushScheduled = true;
+            Promise.resolve().then(() => {
+                this._flushScheduled = false;
+                this.flush();
+            });
+        }
+    }
+}
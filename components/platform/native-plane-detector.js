@@ -10,6 +10,8 @@ export default class NativePlaneDetector {
 
     startDetecting(configuration) {
         // configuration sample: { planeType: ["horizontal", "vertical"] }
+        // optional: maxUpdateRate (events per second), minExtentChange (in meters),
+        // compactPayload (vertices as a flat [x0, y0, z0, x1, ...] array and center rotation)
         this.arPlaneDetector.startDetecting(configuration);
     }
 
@@ -7,6 +7,7 @@ import generateId from '../utils/generateId';
 import omit from 'lodash/omit';
 import isEqual from 'lodash/isEqual';
 import { Events } from './platform-events';
+import { MutationsBatcher } from './mutations-batcher';
 
 export class PlatformFactory extends NativeFactory {
 
@@ -15,7 +16,10 @@ export class PlatformFactory extends NativeFactory {
 
         // { type, builder }
         this.elementBuilders = {};
-        this.componentManager = NativeModules.ARComponentManager;
+        // Android applies the scene changes of a commit in a single bridge call
+        this.componentManager = Platform.OS === 'android'
+            ? new MutationsBatcher(NativeModules.ARComponentManager)
+            : NativeModules.ARComponentManager;
         this.componentManager.clearScene();
         this.setupEventsManager();
 
@@ -33,24 +37,35 @@ export class PlatformFactory extends NativeFactory {
         Events.forEach(event => { 
             this.startListeningEvent(event.name); 
         });
+
+        // Events collected during a frame are delivered together (Android only)
+        if (Platform.OS === 'android') {
+            this.eventsManager.addListener('onEventsBatch', (batch) => {
+                batch.events.forEach(event => this.dispatchEvent(event.name, event.params));
+            });
+        }
     }
 
     startListeningEvent(eventName) {
         const subscription = this.eventsManager.addListener(eventName, (sender) => {
-            const elementId = sender.nodeId;
-            const events = this.eventsByElementId[elementId];
-            if (events !== undefined) {
-                const filteredEvents = events.filter(item => item.name === eventName);
-                filteredEvents.forEach(item => {
-                    // Log.debug(`[EVENTS] ${eventName} received: ${elementId}\nitem: `, item);
-                    item.handler(sender);
-                });
-            }
+            this.dispatchEvent(eventName, sender);
         });
         // Don't forget to unsubscribe, typically in componentWillUnmount
         // subscription.remove();
     }
 
+    dispatchEvent(eventName, sender) {
+        const elementId = sender.nodeId;
+        const events = this.eventsByElementId[elementId];
+        if (events !== undefined) {
+            const filteredEvents = events.filter(item => item.name === eventName);
+            filteredEvents.forEach(item => {
+                // Log.debug(`[EVENTS] ${eventName} received: ${elementId}\nitem: `, item);
+                item.handler(sender);
+            });
+        }
+    }
+
     registerEvent(elementId, name, handler) {
         if (elementId === undefined) { return; }
 
@@ -233,6 +248,7 @@ export class PlatformFactory extends NativeFactory {
     }
 
     resetAfterCommit(containerInfo) {
+        // updateLayout also sends the batched mutations of the commit (Android)
         this.componentManager.updateLayout();
     }
 